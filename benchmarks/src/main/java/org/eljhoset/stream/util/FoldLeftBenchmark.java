@@ -0,0 +1,205 @@
+package org.eljhoset.stream.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FoldLeftBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    int size;
+
+    @Param({"SIZED", "UNSIZED"})
+    Sources source;
+
+    int limit;
+
+    final BiConsumer<long[], Integer> addInPlace = (u, t) -> u[0] += t;
+
+    @Setup
+    public void setUp() {
+        limit = size - 1;
+    }
+
+    @Benchmark
+    public long reduceBaseline() {
+        return source.boxed(size).reduce(0L, (u, t) -> u + t, Long::sum);
+    }
+
+    @Benchmark
+    public long collectBaseline() {
+        return source.boxed(size).collect(Collectors.summingLong(t -> t));
+    }
+
+    @Benchmark
+    public long foldLeftBiFunction() {
+        return FoldLeft.foldLeft(source.boxed(size), () -> 0L, (Long u, Integer t) -> u + t);
+    }
+
+    @Benchmark
+    public long foldLeftBiFunctionBreaker() {
+        return FoldLeft.foldLeft(source.boxed(size), () -> 0L, (u, t) -> t >= limit, (Long u, Integer t) -> u + t);
+    }
+
+    @Benchmark
+    public long foldLeftTriFunction() {
+        return FoldLeft.foldLeft(source.boxed(size), () -> 0L, (u, t) -> false, (Optional<Integer> prev, Long u, Integer t) -> u + t - prev.orElse(0));
+    }
+
+    @Benchmark
+    public long foldLeftWithPrevious() {
+        return FoldLeft.foldLeftWithPrevious(source.boxed(size), () -> 0L, (hasPrev, prev, u, t) -> u + t - (hasPrev ? prev : 0));
+    }
+
+    @Benchmark
+    public long foldLeftWithPreviousBreaker() {
+        return FoldLeft.foldLeftWithPrevious(source.boxed(size), () -> 0L, (u, t) -> t >= limit, (hasPrev, prev, u, t) -> u + t - (hasPrev ? prev : 0));
+    }
+
+    @Benchmark
+    public int foldLeftBinaryOperator() {
+        return FoldLeft.foldLeft(source.boxed(size), () -> 0, Integer::sum);
+    }
+
+    @Benchmark
+    public int foldLeftBinaryOperatorBreaker() {
+        return FoldLeft.foldLeft(source.boxed(size), () -> 0, t -> t >= limit, Integer::sum);
+    }
+
+    @Benchmark
+    public long[] foldLeftBiConsumer() {
+        return FoldLeft.foldLeft(source.boxed(size), () -> new long[1], (long[] u, Integer t) -> u[0] += t);
+    }
+
+    @Benchmark
+    public long[] foldLeftBiConsumerBreaker() {
+        return FoldLeft.foldLeft(source.boxed(size), () -> new long[1], (u, t) -> t >= limit, addInPlace);
+    }
+
+    @Benchmark
+    public Integer foldLeftConsumer(Blackhole blackhole) {
+        return FoldLeft.foldLeft(source.boxed(size), () -> 0, (Consumer<Integer>) blackhole::consume);
+    }
+
+    @Benchmark
+    public long foldLeftCollector() {
+        return source.boxed(size).collect(FoldLeft.foldLeft(() -> 0L, (Long u, Integer t) -> u + t));
+    }
+
+    @Benchmark
+    public long foldLeftCollectorParallel() {
+        return source.boxed(size).parallel().collect(FoldLeft.foldLeft(() -> 0L, (Long u, Integer t) -> u + t, Long::sum));
+    }
+
+    @Benchmark
+    public long[] foldLeftCollectorBiConsumer() {
+        return source.boxed(size).collect(FoldLeft.foldLeft(() -> new long[1], addInPlace));
+    }
+
+    @Benchmark
+    public long[] foldLeftCollectorBiConsumerParallel() {
+        return source.boxed(size).parallel().collect(FoldLeft.foldLeft(() -> new long[1], addInPlace, (u, v) -> new long[]{u[0] + v[0]}));
+    }
+
+    @Benchmark
+    public long[] foldLeftInPlaceCollectorParallel() {
+        return source.boxed(size).parallel().collect(FoldLeft.foldLeftInPlace(() -> new long[1], addInPlace, (u, v) -> u[0] += v[0]));
+    }
+
+    @Benchmark
+    public int foldLeftParallel() {
+        return FoldLeft.foldLeftParallel(source.boxed(size), () -> 0, Integer::sum);
+    }
+
+    @Benchmark
+    public int foldLeftParallelBreaker() {
+        return FoldLeft.foldLeftParallel(source.boxed(size), () -> 0, t -> t >= limit, Integer::sum);
+    }
+
+    @Benchmark
+    public long foldLeftParallelBiFunction() {
+        return FoldLeft.foldLeftParallel(source.boxed(size), () -> 0L, (Long u, Integer t) -> u + t, Long::sum);
+    }
+
+    @Benchmark
+    public long foldLeftParallelBiFunctionBreaker() {
+        return FoldLeft.foldLeftParallel(source.boxed(size), () -> 0L, t -> t >= limit, (Long u, Integer t) -> u + t, Long::sum);
+    }
+
+    @Benchmark
+    public long takeWhileFolding() {
+        return FoldLeft.takeWhileFolding(source.boxed(size), () -> 0L, (u, t) -> t >= limit, (Long u, Integer t) -> u + t).count();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingFold() {
+        return source.boxed(size).collect(FoldLeft.groupingFold(t -> t & 1023, () -> 0L, (Long u, Integer t) -> u + t));
+    }
+
+    @Benchmark
+    public IntObjectMap<Long> groupingFoldByInt() {
+        return source.boxed(size).collect(FoldLeft.groupingFoldByInt(t -> t & 1023, () -> 0L, (Long u, Integer t) -> u + t));
+    }
+
+    @Benchmark
+    public LongObjectMap<Long> groupingFoldByLong() {
+        return source.boxed(size).collect(FoldLeft.groupingFoldByLong(t -> t & 1023L, () -> 0L, (Long u, Integer t) -> u + t));
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupingFoldConcurrent() {
+        return source.boxed(size).parallel().collect(FoldLeft.groupingFoldConcurrent(t -> t & 1023, () -> 0L, (Long u, Integer t) -> u + t));
+    }
+
+    @Benchmark
+    public Optional<Long> foldLeftOptionally() {
+        return FoldLeft.foldLeftOptionally(source.boxed(size), () -> 0L, (Long u, Integer t) -> u + t);
+    }
+
+    @Benchmark
+    public Optional<Long> foldLeftOptionallyBreaker() {
+        return FoldLeft.foldLeftOptionally(source.boxed(size), () -> 0L, (u, t) -> t >= limit, (Long u, Integer t) -> u + t);
+    }
+
+    @Benchmark
+    public Optional<long[]> foldLeftOptionallyBiConsumer() {
+        return FoldLeft.foldLeftOptionally(source.boxed(size), () -> new long[1], addInPlace);
+    }
+
+    @Benchmark
+    public Optional<long[]> foldLeftOptionallyBiConsumerBreaker() {
+        return FoldLeft.foldLeftOptionally(source.boxed(size), () -> new long[1], (u, t) -> t >= limit, addInPlace);
+    }
+
+    @Benchmark
+    public Optional<Long> foldLeftOptionallyCollector() {
+        return source.boxed(size).collect(FoldLeft.foldLeftOptionally(() -> 0L, (Long u, Integer t) -> u + t));
+    }
+
+    @Benchmark
+    public Optional<Long> foldLeftOptionallyCollectorParallel() {
+        return source.boxed(size).parallel().collect(FoldLeft.foldLeftOptionally(() -> 0L, (Long u, Integer t) -> u + t, Long::sum));
+    }
+
+    @Benchmark
+    public Optional<long[]> foldLeftOptionallyCollectorBiConsumer() {
+        return source.boxed(size).collect(FoldLeft.foldLeftOptionally(() -> new long[1], addInPlace));
+    }
+
+    @Benchmark
+    public Optional<long[]> foldLeftOptionallyCollectorBiConsumerParallel() {
+        return source.boxed(size).parallel().collect(FoldLeft.foldLeftOptionally(() -> new long[1], addInPlace, (u, v) -> new long[]{u[0] + v[0]}));
+    }
+}
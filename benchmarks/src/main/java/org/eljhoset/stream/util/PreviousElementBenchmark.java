@@ -0,0 +1,50 @@
+package org.eljhoset.stream.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Isolates the cost of tracking the previous element: the source is a list of cached {@code Integer}s and the
+ * accumulator is a single {@code long[]} updated in place, so whatever is allocated per element comes from the fold.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreviousElementBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    List<Integer> values;
+
+    @Setup
+    public void setUp() {
+        values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(i & 127);
+        }
+    }
+
+    @Benchmark
+    public long[] foldLeftTriFunction() {
+        return FoldLeft.foldLeft(values.stream(), () -> new long[1], (u, t) -> false, (Optional<Integer> prev, long[] u, Integer t) -> {
+            u[0] += t - prev.orElse(0);
+            return u;
+        });
+    }
+
+    @Benchmark
+    public long[] foldLeftWithPrevious() {
+        return FoldLeft.foldLeftWithPrevious(values.stream(), () -> new long[1], (hasPrev, prev, u, t) -> {
+            u[0] += t - (hasPrev ? prev : 0);
+            return u;
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package org.eljhoset.stream.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimitiveFoldLeftBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    int size;
+
+    @Param({"SIZED", "UNSIZED"})
+    Sources source;
+
+    @Benchmark
+    public int intReduceBaseline() {
+        return source.ints(size).reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int intFoldLeft() {
+        return IntFoldLeft.foldLeft(source.ints(size), () -> 0, Integer::sum);
+    }
+
+    @Benchmark
+    public int intFoldLeftBreaker() {
+        return IntFoldLeft.foldLeft(source.ints(size), () -> 0, (u, t) -> u < 0, Integer::sum);
+    }
+
+    @Benchmark
+    public int intFoldLeftElementBreaker() {
+        return IntFoldLeft.foldLeft(source.ints(size), () -> 0, (int t) -> t < 0, Integer::sum);
+    }
+
+    @Benchmark
+    public int[] intFoldLeftInPlace() {
+        return IntFoldLeft.foldLeftInPlace(source.ints(size), () -> new int[1], (u, t) -> u[0] += t);
+    }
+
+    @Benchmark
+    public long longReduceBaseline() {
+        return source.longs(size).reduce(0L, Long::sum);
+    }
+
+    @Benchmark
+    public long longFoldLeft() {
+        return LongFoldLeft.foldLeft(source.longs(size), () -> 0L, Long::sum);
+    }
+
+    @Benchmark
+    public long longFoldLeftBreaker() {
+        return LongFoldLeft.foldLeft(source.longs(size), () -> 0L, (u, t) -> u < 0, Long::sum);
+    }
+
+    @Benchmark
+    public long longFoldLeftElementBreaker() {
+        return LongFoldLeft.foldLeft(source.longs(size), () -> 0L, (long t) -> t < 0, Long::sum);
+    }
+
+    @Benchmark
+    public long[] longFoldLeftInPlace() {
+        return LongFoldLeft.foldLeftInPlace(source.longs(size), () -> new long[1], (u, t) -> u[0] += t);
+    }
+
+    @Benchmark
+    public double doubleReduceBaseline() {
+        return source.doubles(size).reduce(0, Math::max);
+    }
+
+    @Benchmark
+    public double doubleFoldLeft() {
+        return DoubleFoldLeft.foldLeft(source.doubles(size), () -> 0, (u, t) -> Math.max(u, t));
+    }
+
+    @Benchmark
+    public double doubleFoldLeftBreaker() {
+        return DoubleFoldLeft.foldLeft(source.doubles(size), () -> 0, (u, t) -> u < 0, (u, t) -> Math.max(u, t));
+    }
+
+    @Benchmark
+    public double doubleFoldLeftElementBreaker() {
+        return DoubleFoldLeft.foldLeft(source.doubles(size), () -> 0, (double t) -> t < 0, (u, t) -> Math.max(u, t));
+    }
+
+    @Benchmark
+    public double[] doubleFoldLeftInPlace() {
+        return DoubleFoldLeft.foldLeftInPlace(source.doubles(size), () -> new double[1], (u, t) -> u[0] = Math.max(u[0], t));
+    }
+
+    @Benchmark
+    public long boxedFoldLeft() {
+        return FoldLeft.foldLeft(source.longs(size).boxed(), () -> 0L, Long::sum);
+    }
+}
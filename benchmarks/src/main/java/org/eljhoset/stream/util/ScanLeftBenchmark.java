@@ -0,0 +1,57 @@
+package org.eljhoset.stream.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScanLeftBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000", "100000000"})
+    int size;
+
+    @Param({"SIZED", "UNSIZED"})
+    Sources source;
+
+    @Benchmark
+    public void mapBaseline(Blackhole blackhole) {
+        source.boxed(size).map(t -> t + 1).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void scanLeft(Blackhole blackhole) {
+        ScanLeft.scanLeft(source.boxed(size), () -> 0, Integer::sum).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void scanLeftBreaker(Blackhole blackhole) {
+        ScanLeft.scanLeft(source.boxed(size), () -> 0, t -> t < 0, Integer::sum).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void longMapBaseline(Blackhole blackhole) {
+        source.longs(size).map(t -> t + 1).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void longScanLeft(Blackhole blackhole) {
+        ScanLeft.scanLeft(source.longs(size), () -> 0L, Long::sum).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void runningTotalBaseline(Blackhole blackhole) {
+        long[] total = new long[1];
+        source.longs(size).map(t -> total[0] += t).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void parallelPrefix(Blackhole blackhole) {
+        ScanLeft.parallelPrefix(source.longs(size).boxed().parallel(), () -> 0L, Long::sum).forEach(blackhole::consume);
+    }
+}
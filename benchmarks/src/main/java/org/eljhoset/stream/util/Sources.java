@@ -0,0 +1,51 @@
+package org.eljhoset.stream.util;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public enum Sources {
+    SIZED {
+        Stream<Integer> boxed(int size) {
+            return IntStream.range(0, size).boxed();
+        }
+
+        IntStream ints(int size) {
+            return IntStream.range(0, size);
+        }
+
+        LongStream longs(int size) {
+            return LongStream.range(0, size);
+        }
+
+        DoubleStream doubles(int size) {
+            return IntStream.range(0, size).asDoubleStream();
+        }
+    },
+    UNSIZED {
+        Stream<Integer> boxed(int size) {
+            return Stream.iterate(0, i -> i < size, i -> i + 1);
+        }
+
+        IntStream ints(int size) {
+            return IntStream.iterate(0, i -> i < size, i -> i + 1);
+        }
+
+        LongStream longs(int size) {
+            return LongStream.iterate(0, i -> i < size, i -> i + 1);
+        }
+
+        DoubleStream doubles(int size) {
+            return DoubleStream.iterate(0, d -> d < size, d -> d + 1);
+        }
+    };
+
+    abstract Stream<Integer> boxed(int size);
+
+    abstract IntStream ints(int size);
+
+    abstract LongStream longs(int size);
+
+    abstract DoubleStream doubles(int size);
+}
@@ -0,0 +1,104 @@
+package org.eljhoset.stream.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.concurrent.*;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Folds whose mapping stage runs concurrently, with at most {@code maxInFlight} elements being mapped at a time, while
+ * {@code op} still combines the mapped values one by one in encounter order. When the breaker is met, the outstanding
+ * mappings are cancelled.
+ */
+public interface ConcurrentFold {
+
+    static <T, R, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, Function<? super T, ? extends R> mapper, final BiFunction<? super U, ? super R, ? extends U> op, int maxInFlight, ExecutorService executor) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        Spliterator<T> split = stream.spliterator();
+        FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+        ArrayDeque<InFlight<T, R>> window = new ArrayDeque<>(maxInFlight);
+        U u = init.get();
+        try {
+            while (true) {
+                while (window.size() < maxInFlight && split.tryAdvance(box)) {
+                    T t = box.value;
+                    window.add(new InFlight<>(t, executor.submit(() -> mapper.apply(t))));
+                }
+                InFlight<T, R> head = window.peek();
+                if (head == null || breaker.test(u, head.element())) {
+                    return u;
+                }
+                window.poll();
+                u = op.apply(u, await(head.future()));
+            }
+        } finally {
+            window.forEach(inFlight -> inFlight.future().cancel(true));
+        }
+    }
+
+    static <T, R, U> U foldLeft(Stream<T> stream, Supplier<U> init, Function<? super T, ? extends R> mapper, final BiFunction<? super U, ? super R, ? extends U> op, int maxInFlight, ExecutorService executor) {
+        return foldLeft(stream, init, (u, t) -> false, mapper, op, maxInFlight, executor);
+    }
+
+    static <T, R, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, Function<? super T, ? extends R> mapper, final BiFunction<? super U, ? super R, ? extends U> op, int maxInFlight) {
+        ExecutorService executor = newPerTaskExecutor();
+        try {
+            return foldLeft(stream, init, breaker, mapper, op, maxInFlight, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static <T, R, U> U foldLeft(Stream<T> stream, Supplier<U> init, Function<? super T, ? extends R> mapper, final BiFunction<? super U, ? super R, ? extends U> op, int maxInFlight) {
+        return foldLeft(stream, init, (u, t) -> false, mapper, op, maxInFlight);
+    }
+
+    /**
+     * Returns a virtual-thread-per-task executor when the runtime provides one, and a cached pool of daemon threads
+     * otherwise.
+     */
+    static ExecutorService newPerTaskExecutor() {
+        try {
+            return (ExecutorService) MethodHandles.publicLookup()
+                    .findStatic(Executors.class, "newVirtualThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class))
+                    .invokeExact();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return Executors.newCachedThreadPool(r -> {
+                Thread thread = new Thread(r, "concurrent-fold");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <R> R await(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a mapped element");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    record InFlight<T, R>(T element, Future<R> future) {
+    }
+}
@@ -0,0 +1,95 @@
+package org.eljhoset.stream.util;
+
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+
+public interface DoubleFoldLeft {
+
+    static double foldLeft(DoubleStream stream, DoubleSupplier init, DoubleBiPredicate breaker, DoubleBinaryOperator op) {
+        Spliterator.OfDouble split = stream.spliterator();
+        BreakingDoubleFoldConsumer fold = new BreakingDoubleFoldConsumer(init.getAsDouble(), breaker, op);
+        fold.traverse(split);
+        return fold.value;
+    }
+
+    static double foldLeft(DoubleStream stream, DoubleSupplier init, DoublePredicate breaker, DoubleBinaryOperator op) {
+        return foldLeft(stream, init, (u, t) -> breaker.test(t), op);
+    }
+
+    static double foldLeft(DoubleStream stream, DoubleSupplier init, DoubleBinaryOperator op) {
+        Spliterator.OfDouble split = stream.spliterator();
+        DoubleFoldConsumer fold = new DoubleFoldConsumer(init.getAsDouble(), op);
+        split.forEachRemaining(fold);
+        return fold.value;
+    }
+
+    static <U> U foldLeftInPlace(DoubleStream stream, Supplier<U> init, ObjDoubleConsumer<U> op) {
+        Spliterator.OfDouble split = stream.spliterator();
+        U u = init.get();
+        split.forEachRemaining((double t) -> op.accept(u, t));
+        return u;
+    }
+
+    class DoubleBox implements DoubleConsumer {
+        double value;
+
+        public void accept(double t) {
+            value = t;
+        }
+    }
+
+    class DoubleFoldConsumer implements DoubleConsumer {
+        private final DoubleBinaryOperator op;
+        double value;
+
+        DoubleFoldConsumer(double value, DoubleBinaryOperator op) {
+            this.value = value;
+            this.op = op;
+        }
+
+        public void accept(double t) {
+            value = op.applyAsDouble(value, t);
+        }
+    }
+
+    class BreakingDoubleFoldConsumer implements DoubleConsumer {
+        private final DoubleBiPredicate breaker;
+        private final DoubleBinaryOperator op;
+        double value;
+        boolean stopped = false;
+
+        BreakingDoubleFoldConsumer(double value, DoubleBiPredicate breaker, DoubleBinaryOperator op) {
+            this.value = value;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        // one tryAdvance per element for the same reason as FoldLeft.StoppableConsumer#traverse
+        void traverse(Spliterator.OfDouble split) {
+            while (split.tryAdvance(this)) {
+                if (stopped) {
+                    return;
+                }
+            }
+        }
+
+        public void accept(double t) {
+            if (breaker.test(value, t)) {
+                stopped = true;
+            } else {
+                value = op.applyAsDouble(value, t);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface DoubleBiPredicate {
+        boolean test(double u, double t);
+    }
+}
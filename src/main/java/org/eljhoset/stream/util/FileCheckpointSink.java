@@ -0,0 +1,118 @@
+package org.eljhoset.stream.util;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Stores the latest checkpoint in a local file. Writes happen on a background thread and only the most recent pending
+ * checkpoint is written, so a slow disk never stalls the fold. Each write goes to a temporary file that is forced to
+ * the device and then replaces the checkpoint atomically. A failed write is rethrown by the next {@link #write} or
+ * {@link #flush()}.
+ */
+public final class FileCheckpointSink implements ResumableFold.Sink, AutoCloseable {
+    private final Path path;
+    private final Path temp;
+    private final AtomicReference<ResumableFold.Checkpoint> pending = new AtomicReference<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "checkpoint-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+    public FileCheckpointSink(Path path) {
+        this.path = path;
+        this.temp = path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    @Override
+    public Optional<ResumableFold.Checkpoint> read() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            long offset = in.readLong();
+            byte[] state = new byte[in.readInt()];
+            in.readFully(state);
+            return Optional.of(new ResumableFold.Checkpoint(offset, state));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(ResumableFold.Checkpoint checkpoint) {
+        rethrowFailure();
+        if (pending.getAndSet(checkpoint) == null) {
+            writer.execute(this::writePending);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        rethrowFailure();
+    }
+
+    public void delete() throws IOException {
+        flush();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void rethrowFailure() {
+        IOException e = failure.getAndSet(null);
+        if (e != null) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writePending() {
+        ResumableFold.Checkpoint checkpoint = pending.getAndSet(null);
+        if (checkpoint == null) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES + Integer.BYTES + checkpoint.state().length)
+                .putLong(checkpoint.offset())
+                .putInt(checkpoint.state().length)
+                .put(checkpoint.state())
+                .flip();
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // without this the rename can reach the disk before the data after a power loss
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            failure.set(e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.eljhoset.stream.util;
+
+import jdk.jfr.*;
+
+@Name("org.eljhoset.stream.Fold")
+@Label("Fold")
+@Category("StreamUtils")
+@Description("A completed instrumented fold")
+@StackTrace(false)
+class FoldEvent extends Event {
+    @Label("Name")
+    String name;
+
+    @Label("Elements Folded")
+    long elements;
+
+    @Label("Breaker Position")
+    long breakerPosition;
+
+    @Label("Time in Operator")
+    @Timespan(Timespan.NANOSECONDS)
+    long opTime;
+
+    @Label("Time in Traversal")
+    @Timespan(Timespan.NANOSECONDS)
+    long traversalTime;
+
+    @Label("Accumulator Changes")
+    long accumulatorChanges;
+
+    @Label("Allocated Bytes")
+    @DataAmount
+    long allocatedBytes;
+}
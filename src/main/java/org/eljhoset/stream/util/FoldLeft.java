@@ -1,65 +1,153 @@
 package org.eljhoset.stream.util;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.*;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface FoldLeft {
 
     static <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final TriFunction<Optional<T>, ? super U, ? super T, ? extends U> op) {
+        return foldLeftWithPrevious(stream, init, breaker, (hasPrev, prev, u, t) -> op.apply(hasPrev ? Optional.ofNullable(prev) : Optional.empty(), u, t));
+    }
+
+    static <T, U> U foldLeftWithPrevious(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final PreviousFunction<? super T, ? super U, ? extends U> op) {
         Spliterator<T> split = stream.spliterator();
-        BoxConsumer<T> box = new BoxConsumer<>();
-        Optional<T> prev = Optional.empty();
-        U u = init.get();
-        while (split.tryAdvance(box) && !breaker.test(u, box.value)) {
-            u = op.apply(prev, u, box.value);
-            prev = Optional.ofNullable(box.value);
-        }
-        return u;
+        PreviousFoldConsumer<T, U> fold = new PreviousFoldConsumer<>(init.get(), breaker, op);
+        fold.traverse(split);
+        return fold.value;
+    }
+
+    static <T, U> U foldLeftWithPrevious(Stream<T> stream, Supplier<U> init, final PreviousFunction<? super T, ? super U, ? extends U> op) {
+        Spliterator<T> split = stream.spliterator();
+        PreviousFoldConsumer<T, U> fold = new PreviousFoldConsumer<>(init.get(), (u, t) -> false, op);
+        split.forEachRemaining(fold);
+        return fold.value;
     }
 
     static <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op) {
-        return foldLeft(stream, init, breaker, (prev, u, t) -> op.apply(u, t));
+        Spliterator<T> split = stream.spliterator();
+        BreakingFoldConsumer<T, U> fold = new BreakingFoldConsumer<>(init.get(), breaker, op);
+        fold.traverse(split);
+        return fold.value;
     }
 
     static <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
-        return foldLeft(stream, init, (u, t) -> false, op);
+        Spliterator<T> split = stream.spliterator();
+        FoldConsumer<T, U> fold = new FoldConsumer<>(init.get(), op);
+        split.forEachRemaining(fold);
+        return fold.value;
     }
 
     static <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final BiConsumer<U, T> op) {
-        return foldLeft(stream, init, breaker, peek(op));
+        Spliterator<T> split = stream.spliterator();
+        BreakingInPlaceFoldConsumer<T, U> fold = new BreakingInPlaceFoldConsumer<>(init.get(), breaker, op);
+        fold.traverse(split);
+        return fold.value;
     }
 
     static <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, final BiConsumer<U, T> op) {
-        return foldLeft(stream, init, (u, t) -> false, op);
+        Spliterator<T> split = stream.spliterator();
+        InPlaceFoldConsumer<T, U> fold = new InPlaceFoldConsumer<>(init.get(), op);
+        split.forEachRemaining(fold);
+        return fold.value;
     }
 
     static <T> T foldLeft(Stream<T> stream, Supplier<T> init, Predicate<T> breaker, BinaryOperator<T> op) {
         BiPredicate<T, T> p = (u, t) -> breaker.test(t);
-        TriFunction<Optional<T>, T, T, T> f = (prevOpt, u, t) -> op.apply(u, t);
+        BiFunction<T, T, T> f = op;
         return foldLeft(stream, init, p, f);
     }
 
     static <T> T foldLeft(Stream<T> stream, Supplier<T> init, BinaryOperator<T> op) {
-        return foldLeft(stream, init, t -> false, op);
+        BiFunction<T, T, T> f = op;
+        return foldLeft(stream, init, f);
     }
 
     static <T> T foldLeft(Stream<T> stream, Supplier<T> init, Consumer<T> op) {
-        BinaryOperator<T> binaryOperator = (t, t2) -> peek(op).apply(t);
-        return foldLeft(stream, init, t -> false, binaryOperator);
+        UnaryOperator<T> peek = peek(op);
+        BinaryOperator<T> binaryOperator = (t, t2) -> peek.apply(t);
+        return foldLeft(stream, init, binaryOperator);
     }
 
-    static <T, U> Collector<T, ?, U> foldLeft(Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
-        return Collectors.collectingAndThen(
-                Collectors.reducing(Function.<U>identity(), a -> b -> op.apply(b, a), Function::andThen),
-                end -> end.apply(init.get())
+    /**
+     * Passes elements through while folding them, and ends the stream at the first element that meets the breaker
+     * against the state accumulated so far. The source is pulled one element at a time, so upstream stages stop with
+     * it; under {@code parallel()} the fold stays sequential and only downstream stages run in parallel. A
+     * {@code flatMap} stage is the exception: pulling from its spliterator buffers the whole inner stream of the
+     * current element, so that inner stream is generated in full even when the breaker trips part way through it.
+     */
+    static <T, U> Stream<T> takeWhileFolding(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op) {
+        TakeWhileFoldingSpliterator<T, U> split = new TakeWhileFoldingSpliterator<>(stream.spliterator(), init, breaker, op);
+        return StreamSupport.stream(split, stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Folds the chunks of the stream's spliterator in parallel, starting each chunk from {@code init}, and combines
+     * the partial results in encounter order. {@code op} must be associative and {@code init} must be its identity.
+     * Once an element matches {@code breaker}, the chunks to its right are cancelled and discarded.
+     */
+    static <T> T foldLeftParallel(Stream<T> stream, Supplier<T> init, Predicate<T> breaker, BinaryOperator<T> op) {
+        return foldLeftParallel(stream, init, breaker, op, op);
+    }
+
+    static <T> T foldLeftParallel(Stream<T> stream, Supplier<T> init, BinaryOperator<T> op) {
+        return foldLeftParallel(stream, init, t -> false, op);
+    }
+
+    static <T, U> U foldLeftParallel(Stream<T> stream, Supplier<U> init, Predicate<T> breaker, final BiFunction<U, ? super T, U> op, BinaryOperator<U> combiner) {
+        // a sequential pipeline's spliterator does not split, so ask for the parallel one
+        return new ParallelFoldTask<>(stream.parallel().spliterator(), init, breaker, op, combiner).invoke().value;
+    }
+
+    static <T, U> U foldLeftParallel(Stream<T> stream, Supplier<U> init, final BiFunction<U, ? super T, U> op, BinaryOperator<U> combiner) {
+        return foldLeftParallel(stream, init, t -> false, op, combiner);
+    }
+
+    static <T, U> Collector<T, ?, U> foldLeft(Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, BinaryOperator<U> combiner) {
+        return Collector.of(
+                () -> {
+                    BoxConsumer<U> box = new BoxConsumer<>();
+                    box.accept(init.get());
+                    return box;
+                },
+                (box, t) -> box.accept(op.apply(box.value, t)),
+                (left, right) -> {
+                    left.accept(combiner.apply(left.value, right.value));
+                    return left;
+                },
+                box -> box.value
         );
     }
-    static <T, U> Collector<T, ?, U> foldLeft(Supplier<U> init, final BiConsumer<U,T> op) {
-        return foldLeft(init,peek(op));
+
+    static <T, U> Collector<T, ?, U> foldLeft(Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        return foldLeft(init, op, sequentialOnly());
+    }
+
+    static <T, U> Collector<T, ?, U> foldLeft(Supplier<U> init, final BiConsumer<U, T> op, BinaryOperator<U> combiner) {
+        return Collector.of(init, op, combiner);
+    }
+
+    static <T, U> Collector<T, ?, U> foldLeft(Supplier<U> init, final BiConsumer<U, T> op) {
+        return foldLeft(init, op, sequentialOnly());
+    }
+
+    /**
+     * Folds into one mutable accumulator per thread; under {@code parallel()} {@code merge} folds the right
+     * accumulator into the left one.
+     */
+    static <T, U> Collector<T, ?, U> foldLeftInPlace(Supplier<U> init, final BiConsumer<U, T> op, BiConsumer<U, U> merge) {
+        return Collector.of(init, op, (left, right) -> {
+            merge.accept(left, right);
+            return left;
+        });
     }
 
     static <T, U> Optional<U> foldLeftOptionally(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op) {
@@ -69,23 +157,121 @@ public interface FoldLeft {
     }
 
     static <T, U> Optional<U> foldLeftOptionally(Stream<T> stream, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
-        return foldLeftOptionally(stream, init, (u, t) -> false, op);
+        BiFunction<Optional<U>, T, Optional<U>> f = (opt, t) -> opt.or(() -> Optional.ofNullable(init.get())).map(u -> op.apply(u, t));
+        return foldLeft(stream, Optional::empty, f);
     }
 
     static <T, U> Optional<U> foldLeftOptionally(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final BiConsumer<U, T> op) {
-        return foldLeftOptionally(stream, init, breaker, peek(op));
+        Spliterator<T> split = stream.spliterator();
+        OptionalInPlaceFoldConsumer<T, U> fold = new OptionalInPlaceFoldConsumer<>(init, breaker, op);
+        fold.traverse(split);
+        return Optional.ofNullable(fold.value);
     }
 
     static <T, U> Optional<U> foldLeftOptionally(Stream<T> stream, Supplier<U> init, final BiConsumer<U, T> op) {
-        return foldLeftOptionally(stream, init, (u, t) -> false, op);
+        Spliterator<T> split = stream.spliterator();
+        OptionalInPlaceFoldConsumer<T, U> fold = new OptionalInPlaceFoldConsumer<>(init, (u, t) -> false, op);
+        split.forEachRemaining(fold);
+        return Optional.ofNullable(fold.value);
+    }
+    static <T, U> Collector<T, ?, Optional<U>> foldLeftOptionally(Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, BinaryOperator<U> combiner) {
+        BiFunction<Optional<U>, T, Optional<U>> function = (opt, t) -> opt.or(() -> Optional.ofNullable(init.get()))
+                .map(u -> op.apply(u, t));
+        BinaryOperator<Optional<U>> merge = (left, right) -> right.isEmpty() ? left
+                : left.isEmpty() ? right
+                : Optional.ofNullable(combiner.apply(left.get(), right.get()));
+        return foldLeft(Optional::empty, function, merge);
     }
     static <T, U> Collector<T, ?, Optional<U>> foldLeftOptionally(Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
        BiFunction<Optional<U>,T,Optional<U>> function = (opt, t) ->opt.or(() -> Optional.ofNullable(init.get()))
                .map(u -> op.apply(u,t));
        return foldLeft(Optional::empty,function);
     }
+    static <T, U> Collector<T, ?, Optional<U>> foldLeftOptionally(Supplier<U> init, final BiConsumer<U, T> op, BinaryOperator<U> combiner) {
+        return Collector.of(
+                () -> new OptionalInPlaceFoldConsumer<T, U>(init, (u, t) -> false, op),
+                OptionalInPlaceFoldConsumer::accept,
+                (left, right) -> {
+                    left.value = right.value == null ? left.value
+                            : left.value == null ? right.value
+                            : combiner.apply(left.value, right.value);
+                    return left;
+                },
+                fold -> Optional.ofNullable(fold.value)
+        );
+    }
     static <T, U> Collector<T, ?, Optional<U>> foldLeftOptionally(Supplier<U> init, final BiConsumer<U, T> op) {
-        return foldLeftOptionally(init,peek(op));
+        return foldLeftOptionally(init, op, sequentialOnly());
+    }
+
+    static <T, K, U> Collector<T, ?, Map<K, U>> groupingFold(Function<? super T, ? extends K> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, BinaryOperator<U> combiner) {
+        return Collector.of(
+                HashMap::new,
+                (Map<K, U> map, T t) -> map.compute(key.apply(t), (k, u) -> op.apply(u == null ? init.get() : u, t)),
+                (left, right) -> {
+                    right.forEach((k, u) -> left.merge(k, u, combiner));
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    static <T, K, U> Collector<T, ?, Map<K, U>> groupingFold(Function<? super T, ? extends K> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        return groupingFold(key, init, op, sequentialOnly());
+    }
+
+    static <T, U> Collector<T, ?, IntObjectMap<U>> groupingFoldByInt(ToIntFunction<? super T> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, BinaryOperator<U> combiner) {
+        return Collector.of(
+                IntObjectMap::new,
+                (IntObjectMap<U> map, T t) -> map.fold(key.applyAsInt(t), t, init, op),
+                (left, right) -> left.merge(right, combiner),
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    static <T, U> Collector<T, ?, IntObjectMap<U>> groupingFoldByInt(ToIntFunction<? super T> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        return groupingFoldByInt(key, init, op, sequentialOnly());
+    }
+
+    static <T, U> Collector<T, ?, LongObjectMap<U>> groupingFoldByLong(ToLongFunction<? super T> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, BinaryOperator<U> combiner) {
+        return Collector.of(
+                LongObjectMap::new,
+                (LongObjectMap<U> map, T t) -> map.fold(key.applyAsLong(t), t, init, op),
+                (left, right) -> left.merge(right, combiner),
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    static <T, U> Collector<T, ?, LongObjectMap<U>> groupingFoldByLong(ToLongFunction<? super T> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        return groupingFoldByLong(key, init, op, sequentialOnly());
+    }
+
+    /**
+     * Folds every group into a single shared map, locking only the bin of the key being updated. Elements reach
+     * {@code op} in no particular order, so it must not depend on encounter order.
+     */
+    static <T, K, U> Collector<T, ?, ConcurrentMap<K, U>> groupingFoldConcurrent(Function<? super T, ? extends K> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, BinaryOperator<U> combiner) {
+        return Collector.of(
+                ConcurrentHashMap::new,
+                (ConcurrentMap<K, U> map, T t) -> map.compute(key.apply(t), (k, u) -> op.apply(u == null ? init.get() : u, t)),
+                (left, right) -> {
+                    right.forEach((k, u) -> left.merge(k, u, combiner));
+                    return left;
+                },
+                Collector.Characteristics.CONCURRENT,
+                Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH
+        );
+    }
+
+    static <T, K, U> Collector<T, ?, ConcurrentMap<K, U>> groupingFoldConcurrent(Function<? super T, ? extends K> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        return groupingFoldConcurrent(key, init, op, sequentialOnly());
+    }
+
+    static <U> BinaryOperator<U> sequentialOnly() {
+        return (left, right) -> {
+            throw new IllegalStateException("foldLeft collector requires a combiner to be used with parallel streams");
+        };
     }
 
     static <T> UnaryOperator<T> peek(Consumer<T> consumer) {
@@ -110,8 +296,185 @@ public interface FoldLeft {
         }
     }
 
+    class FoldConsumer<T, U> implements Consumer<T> {
+        private final BiFunction<? super U, ? super T, ? extends U> op;
+        U value;
+
+        FoldConsumer(U value, BiFunction<? super U, ? super T, ? extends U> op) {
+            this.value = value;
+            this.op = op;
+        }
+
+        public void accept(T t) {
+            value = op.apply(value, t);
+        }
+    }
+
+    abstract class StoppableConsumer<T> implements Consumer<T> {
+        boolean stopped = false;
+
+        // forEachRemaining cannot stop early, so a fold with a breaker still advances one element at a time
+        void traverse(Spliterator<T> split) {
+            while (split.tryAdvance(this)) {
+                if (stopped) {
+                    return;
+                }
+            }
+        }
+    }
+
+    class InPlaceFoldConsumer<T, U> implements Consumer<T> {
+        private final BiConsumer<U, T> op;
+        final U value;
+
+        InPlaceFoldConsumer(U value, BiConsumer<U, T> op) {
+            this.value = value;
+            this.op = op;
+        }
+
+        public void accept(T t) {
+            op.accept(value, t);
+        }
+    }
+
+    class BreakingInPlaceFoldConsumer<T, U> extends StoppableConsumer<T> {
+        private final BiPredicate<U, T> breaker;
+        private final BiConsumer<U, T> op;
+        final U value;
+
+        BreakingInPlaceFoldConsumer(U value, BiPredicate<U, T> breaker, BiConsumer<U, T> op) {
+            this.value = value;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        public void accept(T t) {
+            if (breaker.test(value, t)) {
+                stopped = true;
+            } else {
+                op.accept(value, t);
+            }
+        }
+    }
+
+    /**
+     * Creates the accumulator on the first element, which is always folded; the breaker is only tested from the
+     * second element on, as in the {@code BiFunction} form of {@code foldLeftOptionally}.
+     */
+    class OptionalInPlaceFoldConsumer<T, U> extends StoppableConsumer<T> {
+        private final Supplier<U> init;
+        private final BiPredicate<U, T> breaker;
+        private final BiConsumer<U, T> op;
+        U value;
+
+        OptionalInPlaceFoldConsumer(Supplier<U> init, BiPredicate<U, T> breaker, BiConsumer<U, T> op) {
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        public void accept(T t) {
+            if (value == null) {
+                value = init.get();
+                if (value == null) {
+                    return;
+                }
+            } else if (breaker.test(value, t)) {
+                stopped = true;
+                return;
+            }
+            op.accept(value, t);
+        }
+    }
+
+    class BreakingFoldConsumer<T, U> extends StoppableConsumer<T> {
+        private final BiPredicate<U, T> breaker;
+        private final BiFunction<? super U, ? super T, ? extends U> op;
+        U value;
+
+        BreakingFoldConsumer(U value, BiPredicate<U, T> breaker, BiFunction<? super U, ? super T, ? extends U> op) {
+            this.value = value;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        public void accept(T t) {
+            if (breaker.test(value, t)) {
+                stopped = true;
+            } else {
+                value = op.apply(value, t);
+            }
+        }
+    }
+
+    class PreviousFoldConsumer<T, U> extends StoppableConsumer<T> {
+        private final BiPredicate<U, T> breaker;
+        private final PreviousFunction<? super T, ? super U, ? extends U> op;
+        private boolean hasPrev = false;
+        private T prev = null;
+        U value;
+
+        PreviousFoldConsumer(U value, BiPredicate<U, T> breaker, PreviousFunction<? super T, ? super U, ? extends U> op) {
+            this.value = value;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        public void accept(T t) {
+            if (breaker.test(value, t)) {
+                stopped = true;
+                return;
+            }
+            value = op.apply(hasPrev, prev, value, t);
+            prev = t;
+            hasPrev = true;
+        }
+    }
+
+    class TakeWhileFoldingSpliterator<T, U> extends Spliterators.AbstractSpliterator<T> {
+        private final Spliterator<T> source;
+        private final Supplier<U> init;
+        private final BiPredicate<U, T> breaker;
+        private final BiFunction<? super U, ? super T, ? extends U> op;
+        private final BoxConsumer<T> box = new BoxConsumer<>();
+        private boolean started = false;
+        private boolean done = false;
+        private U value;
+
+        TakeWhileFoldingSpliterator(Spliterator<T> source, Supplier<U> init, BiPredicate<U, T> breaker, BiFunction<? super U, ? super T, ? extends U> op) {
+            super(source.estimateSize(), source.characteristics() & ORDERED);
+            this.source = source;
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (done) {
+                return false;
+            }
+            if (!started) {
+                value = init.get();
+                started = true;
+            }
+            if (!source.tryAdvance(box) || breaker.test(value, box.value)) {
+                done = true;
+                return false;
+            }
+            value = op.apply(value, box.value);
+            action.accept(box.value);
+            return true;
+        }
+    }
+
     @FunctionalInterface
     interface TriFunction<A, B, C, R> {
         R apply(A a, B b, C c);
     }
+
+    @FunctionalInterface
+    interface PreviousFunction<T, U, R> {
+        R apply(boolean hasPrevious, T previous, U u, T t);
+    }
 }
@@ -0,0 +1,31 @@
+package org.eljhoset.stream.util;
+
+@FunctionalInterface
+public interface FoldListener {
+
+    void onFoldCompleted(FoldStats stats);
+
+    static FoldListener jfr() {
+        return stats -> {
+            FoldEvent event = new FoldEvent();
+            if (event.shouldCommit()) {
+                event.name = stats.name();
+                event.elements = stats.elements();
+                event.breakerPosition = stats.breakerPosition();
+                event.opTime = stats.opNanos();
+                event.traversalTime = stats.traversalNanos();
+                event.accumulatorChanges = stats.accumulatorChanges();
+                event.allocatedBytes = stats.allocatedBytes();
+                event.commit();
+            }
+        };
+    }
+
+    /**
+     * What a single fold did: the elements folded by {@code op}, the position of the element that met the breaker or
+     * {@code -1}, the time spent in {@code op} and in traversal, how many times {@code op} returned a different
+     * accumulator instance, and the bytes allocated by the folding thread or {@code -1} if the JVM cannot tell.
+     */
+    record FoldStats(String name, long elements, long breakerPosition, long opNanos, long traversalNanos, long accumulatorChanges, long allocatedBytes) {
+    }
+}
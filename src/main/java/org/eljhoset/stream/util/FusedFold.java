@@ -0,0 +1,106 @@
+package org.eljhoset.stream.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Runs several folds over a single traversal of a stream. Each {@link Definition} stops receiving elements once its
+ * own breaker trips, and the traversal ends as soon as every definition has stopped or the stream is exhausted.
+ */
+public interface FusedFold {
+
+    static <T, A, B> Pair<A, B> foldLeft(Stream<T> stream, Definition<T, A> first, Definition<T, B> second) {
+        Results results = foldLeft(stream, List.of(first, second));
+        return new Pair<>(results.get(first), results.get(second));
+    }
+
+    static <T, A, B, C> Triple<A, B, C> foldLeft(Stream<T> stream, Definition<T, A> first, Definition<T, B> second, Definition<T, C> third) {
+        Results results = foldLeft(stream, List.of(first, second, third));
+        return new Triple<>(results.get(first), results.get(second), results.get(third));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Results foldLeft(Stream<T> stream, List<? extends Definition<T, ?>> definitions) {
+        int size = definitions.size();
+        Definition<T, Object>[] folds = (Definition<T, Object>[]) definitions.toArray(new Definition<?, ?>[0]);
+        Object[] values = new Object[size];
+        boolean[] stopped = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = folds[i].init().get();
+        }
+        int running = size;
+        Spliterator<T> split = stream.spliterator();
+        FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+        while (running > 0 && split.tryAdvance(box)) {
+            T t = box.value;
+            for (int i = 0; i < size; i++) {
+                if (stopped[i]) {
+                    continue;
+                }
+                Definition<T, Object> fold = folds[i];
+                if (fold.breaker() != null && fold.breaker().test(values[i], t)) {
+                    stopped[i] = true;
+                    running--;
+                } else {
+                    values[i] = fold.op().apply(values[i], t);
+                }
+            }
+        }
+        return new Results(folds, values);
+    }
+
+    record Definition<T, U>(Supplier<U> init, BiPredicate<U, T> breaker, BiFunction<? super U, ? super T, ? extends U> op) {
+
+        public static <T, U> Definition<T, U> of(Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+            return new Definition<>(init, null, op);
+        }
+
+        public static <T, U> Definition<T, U> of(Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op) {
+            return new Definition<>(init, breaker, op);
+        }
+    }
+
+    record Pair<A, B>(A first, B second) {
+    }
+
+    record Triple<A, B, C>(A first, B second, C third) {
+    }
+
+    final class Results {
+        private final Definition<?, ?>[] definitions;
+        private final Object[] values;
+
+        Results(Definition<?, ?>[] definitions, Object[] values) {
+            this.definitions = definitions;
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <U> U get(Definition<?, U> definition) {
+            for (int i = 0; i < definitions.length; i++) {
+                if (definitions[i] == definition) {
+                    return (U) values[i];
+                }
+            }
+            throw new IllegalArgumentException("Definition was not part of this fold");
+        }
+
+        public Object get(int index) {
+            return values[index];
+        }
+
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(values);
+        }
+    }
+}
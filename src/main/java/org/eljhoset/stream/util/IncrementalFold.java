@@ -0,0 +1,140 @@
+package org.eljhoset.stream.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+/**
+ * A fold over an append-only list that remembers the accumulator and position of its last run, so that
+ * {@link #get()} only folds the elements appended since. Readers that find the fold up to date do not lock. The
+ * accumulators handed out are shared between readers, so {@code op} should not mutate a value it has already returned.
+ */
+public final class IncrementalFold<T, U> {
+    private final List<? extends T> source;
+    private final BiPredicate<U, T> breaker;
+    private final BiFunction<? super U, ? super T, ? extends U> op;
+    private volatile State<U> state;
+
+    private IncrementalFold(List<? extends T> source, Supplier<U> init, BiPredicate<U, T> breaker, BiFunction<? super U, ? super T, ? extends U> op) {
+        this.source = source;
+        this.breaker = breaker;
+        this.op = op;
+        this.state = new State<>(0, init.get(), false);
+    }
+
+    public static <T, U> IncrementalFold<T, U> of(List<? extends T> source, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        return new IncrementalFold<>(source, init, null, op);
+    }
+
+    public static <T, U> IncrementalFold<T, U> of(List<? extends T> source, Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op) {
+        return new IncrementalFold<>(source, init, breaker, op);
+    }
+
+    public U get() {
+        State<U> current = state;
+        if (current.stopped || current.position == source.size()) {
+            return current.value;
+        }
+        synchronized (this) {
+            current = state;
+            int size = source.size();
+            if (size < current.position) {
+                throw new IllegalStateException("Source shrank from " + current.position + " to " + size + " elements");
+            }
+            if (!current.stopped && current.position < size) {
+                current = fold(current, size);
+                state = current;
+            }
+            return current.value;
+        }
+    }
+
+    public int position() {
+        return state.position;
+    }
+
+    private State<U> fold(State<U> from, int size) {
+        U u = from.value;
+        int position = from.position;
+        Iterator<? extends T> it = source instanceof RandomAccess ? null : source.listIterator(position);
+        while (position < size) {
+            T t = it == null ? source.get(position) : it.next();
+            if (breaker != null && breaker.test(u, t)) {
+                return new State<>(position, u, true);
+            }
+            u = op.apply(u, t);
+            position++;
+        }
+        return new State<>(position, u, false);
+    }
+
+    private record State<U>(int position, U value, boolean stopped) {
+    }
+
+    /**
+     * A bounded, least recently used set of {@link IncrementalFold} handles for one fold definition, keyed by the
+     * identity of the source list.
+     */
+    public static final class Cache<T, U> {
+        private final Supplier<U> init;
+        private final BiPredicate<U, T> breaker;
+        private final BiFunction<? super U, ? super T, ? extends U> op;
+        private final Map<IdentityKey, IncrementalFold<T, U>> handles;
+
+        private Cache(int maxSize, Supplier<U> init, BiPredicate<U, T> breaker, BiFunction<? super U, ? super T, ? extends U> op) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+            }
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+            this.handles = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<IdentityKey, IncrementalFold<T, U>> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        public static <T, U> Cache<T, U> of(int maxSize, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+            return new Cache<>(maxSize, init, null, op);
+        }
+
+        public static <T, U> Cache<T, U> of(int maxSize, Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op) {
+            return new Cache<>(maxSize, init, breaker, op);
+        }
+
+        public IncrementalFold<T, U> handle(List<? extends T> source) {
+            synchronized (handles) {
+                return handles.computeIfAbsent(new IdentityKey(source), key -> new IncrementalFold<>(source, init, breaker, op));
+            }
+        }
+
+        public U foldLeft(List<? extends T> source) {
+            return handle(source).get();
+        }
+
+        public int size() {
+            synchronized (handles) {
+                return handles.size();
+            }
+        }
+    }
+
+    private record IdentityKey(Object source) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof IdentityKey key && key.source == source;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(source);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.eljhoset.stream.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A fold call site that may report {@link FoldListener.FoldStats} for every fold it runs. Whether it does is decided
+ * once by {@link #of(String, FoldListener)}: without a listener the folds are plain {@link FoldLeft} calls, so
+ * disabled instrumentation costs nothing per element.
+ */
+public interface InstrumentedFold {
+
+    <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op);
+
+    <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op);
+
+    static InstrumentedFold of(String name, FoldListener listener) {
+        return listener == null ? new Plain() : new Recording(name, listener);
+    }
+
+    static InstrumentedFold disabled() {
+        return new Plain();
+    }
+
+    final class Plain implements InstrumentedFold {
+
+        @Override
+        public <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, BiFunction<? super U, ? super T, ? extends U> op) {
+            return FoldLeft.foldLeft(stream, init, breaker, op);
+        }
+
+        @Override
+        public <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiFunction<? super U, ? super T, ? extends U> op) {
+            return FoldLeft.foldLeft(stream, init, op);
+        }
+    }
+
+    final class Recording implements InstrumentedFold {
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+        private final String name;
+        private final FoldListener listener;
+
+        Recording(String name, FoldListener listener) {
+            this.name = name;
+            this.listener = listener;
+        }
+
+        @Override
+        public <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, BiFunction<? super U, ? super T, ? extends U> op) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            Spliterator<T> split = stream.spliterator();
+            FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+            long elements = 0;
+            long breakerPosition = -1;
+            long opNanos = 0;
+            long changes = 0;
+            U u = init.get();
+            while (split.tryAdvance(box)) {
+                if (breaker.test(u, box.value)) {
+                    breakerPosition = elements;
+                    break;
+                }
+                long before = System.nanoTime();
+                U next = op.apply(u, box.value);
+                opNanos += System.nanoTime() - before;
+                if (next != u) {
+                    changes++;
+                }
+                u = next;
+                elements++;
+            }
+            long total = System.nanoTime() - start;
+            long allocatedAfter = allocatedBytes();
+            long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+            listener.onFoldCompleted(new FoldListener.FoldStats(name, elements, breakerPosition, opNanos, total - opNanos, changes, allocated));
+            return u;
+        }
+
+        @Override
+        public <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiFunction<? super U, ? super T, ? extends U> op) {
+            return foldLeft(stream, init, (u, t) -> false, op);
+        }
+
+        private static long allocatedBytes() {
+            if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getCurrentThreadAllocatedBytes();
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.eljhoset.stream.util;
+
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public interface IntFoldLeft {
+
+    static int foldLeft(IntStream stream, IntSupplier init, IntBiPredicate breaker, IntBinaryOperator op) {
+        Spliterator.OfInt split = stream.spliterator();
+        BreakingIntFoldConsumer fold = new BreakingIntFoldConsumer(init.getAsInt(), breaker, op);
+        fold.traverse(split);
+        return fold.value;
+    }
+
+    static int foldLeft(IntStream stream, IntSupplier init, IntPredicate breaker, IntBinaryOperator op) {
+        return foldLeft(stream, init, (u, t) -> breaker.test(t), op);
+    }
+
+    static int foldLeft(IntStream stream, IntSupplier init, IntBinaryOperator op) {
+        Spliterator.OfInt split = stream.spliterator();
+        IntFoldConsumer fold = new IntFoldConsumer(init.getAsInt(), op);
+        split.forEachRemaining(fold);
+        return fold.value;
+    }
+
+    static <U> U foldLeftInPlace(IntStream stream, Supplier<U> init, ObjIntConsumer<U> op) {
+        Spliterator.OfInt split = stream.spliterator();
+        U u = init.get();
+        split.forEachRemaining((int t) -> op.accept(u, t));
+        return u;
+    }
+
+    class IntBox implements IntConsumer {
+        int value;
+
+        public void accept(int t) {
+            value = t;
+        }
+    }
+
+    class IntFoldConsumer implements IntConsumer {
+        private final IntBinaryOperator op;
+        int value;
+
+        IntFoldConsumer(int value, IntBinaryOperator op) {
+            this.value = value;
+            this.op = op;
+        }
+
+        public void accept(int t) {
+            value = op.applyAsInt(value, t);
+        }
+    }
+
+    class BreakingIntFoldConsumer implements IntConsumer {
+        private final IntBiPredicate breaker;
+        private final IntBinaryOperator op;
+        int value;
+        boolean stopped = false;
+
+        BreakingIntFoldConsumer(int value, IntBiPredicate breaker, IntBinaryOperator op) {
+            this.value = value;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        // one tryAdvance per element for the same reason as FoldLeft.StoppableConsumer#traverse
+        void traverse(Spliterator.OfInt split) {
+            while (split.tryAdvance(this)) {
+                if (stopped) {
+                    return;
+                }
+            }
+        }
+
+        public void accept(int t) {
+            if (breaker.test(value, t)) {
+                stopped = true;
+            } else {
+                value = op.applyAsInt(value, t);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface IntBiPredicate {
+        boolean test(int u, int t);
+    }
+}
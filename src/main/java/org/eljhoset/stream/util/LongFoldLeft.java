@@ -0,0 +1,95 @@
+package org.eljhoset.stream.util;
+
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+public interface LongFoldLeft {
+
+    static long foldLeft(LongStream stream, LongSupplier init, LongBiPredicate breaker, LongBinaryOperator op) {
+        Spliterator.OfLong split = stream.spliterator();
+        BreakingLongFoldConsumer fold = new BreakingLongFoldConsumer(init.getAsLong(), breaker, op);
+        fold.traverse(split);
+        return fold.value;
+    }
+
+    static long foldLeft(LongStream stream, LongSupplier init, LongPredicate breaker, LongBinaryOperator op) {
+        return foldLeft(stream, init, (u, t) -> breaker.test(t), op);
+    }
+
+    static long foldLeft(LongStream stream, LongSupplier init, LongBinaryOperator op) {
+        Spliterator.OfLong split = stream.spliterator();
+        LongFoldConsumer fold = new LongFoldConsumer(init.getAsLong(), op);
+        split.forEachRemaining(fold);
+        return fold.value;
+    }
+
+    static <U> U foldLeftInPlace(LongStream stream, Supplier<U> init, ObjLongConsumer<U> op) {
+        Spliterator.OfLong split = stream.spliterator();
+        U u = init.get();
+        split.forEachRemaining((long t) -> op.accept(u, t));
+        return u;
+    }
+
+    class LongBox implements LongConsumer {
+        long value;
+
+        public void accept(long t) {
+            value = t;
+        }
+    }
+
+    class LongFoldConsumer implements LongConsumer {
+        private final LongBinaryOperator op;
+        long value;
+
+        LongFoldConsumer(long value, LongBinaryOperator op) {
+            this.value = value;
+            this.op = op;
+        }
+
+        public void accept(long t) {
+            value = op.applyAsLong(value, t);
+        }
+    }
+
+    class BreakingLongFoldConsumer implements LongConsumer {
+        private final LongBiPredicate breaker;
+        private final LongBinaryOperator op;
+        long value;
+        boolean stopped = false;
+
+        BreakingLongFoldConsumer(long value, LongBiPredicate breaker, LongBinaryOperator op) {
+            this.value = value;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        // one tryAdvance per element for the same reason as FoldLeft.StoppableConsumer#traverse
+        void traverse(Spliterator.OfLong split) {
+            while (split.tryAdvance(this)) {
+                if (stopped) {
+                    return;
+                }
+            }
+        }
+
+        public void accept(long t) {
+            if (breaker.test(value, t)) {
+                stopped = true;
+            } else {
+                value = op.applyAsLong(value, t);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface LongBiPredicate {
+        boolean test(long u, long t);
+    }
+}
@@ -0,0 +1,138 @@
+package org.eljhoset.stream.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+public final class LongObjectMap<V> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private boolean[] used;
+    private int size = 0;
+    private int mask;
+
+    public LongObjectMap() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return used[indexOf(key)];
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int i = indexOf(key);
+        return used[i] ? (V) values[i] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        int i = indexOf(key);
+        V old = (V) values[i];
+        values[i] = value;
+        if (!used[i]) {
+            insertedAt(i, key);
+        }
+        return old;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        for (int i = 0; i < used.length; i++) {
+            if (used[i]) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    public Map<Long, V> toMap() {
+        Map<Long, V> map = new HashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> void fold(long key, T t, Supplier<V> init, BiFunction<? super V, ? super T, ? extends V> op) {
+        int i = indexOf(key);
+        if (used[i]) {
+            values[i] = op.apply((V) values[i], t);
+        } else {
+            values[i] = op.apply(init.get(), t);
+            insertedAt(i, key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    LongObjectMap<V> merge(LongObjectMap<V> other, BinaryOperator<V> combiner) {
+        other.forEach((key, value) -> {
+            int i = indexOf(key);
+            if (used[i]) {
+                values[i] = combiner.apply((V) values[i], value);
+            } else {
+                values[i] = value;
+                insertedAt(i, key);
+            }
+        });
+        return this;
+    }
+
+    private int indexOf(long key) {
+        int i = hash(key) & mask;
+        while (used[i] && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void insertedAt(int i, long key) {
+        keys[i] = key;
+        used[i] = true;
+        if (++size > (used.length >> 1)) {
+            resize();
+        }
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(oldUsed.length << 1);
+        for (int j = 0; j < oldUsed.length; j++) {
+            if (oldUsed[j]) {
+                int i = indexOf(oldKeys[j]);
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+                used[i] = true;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+        void accept(long key, V value);
+    }
+}
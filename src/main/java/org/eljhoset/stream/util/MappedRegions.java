@@ -0,0 +1,110 @@
+package org.eljhoset.stream.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A read-only file mapped as consecutive regions of at most {@link #MAX_REGION_BYTES} bytes, or a smaller limit given
+ * to the factories. Every region ends on a
+ * record or line boundary, so no record or line ever spans two regions. The mappings stay valid after the channel is
+ * closed and are released when they become unreachable.
+ */
+final class MappedRegions {
+    static final long MAX_REGION_BYTES = 1L << 30;
+
+    final ByteBuffer[] regions;
+    final long[] bases;
+    final long size;
+
+    private MappedRegions(List<ByteBuffer> regions, List<Long> bases, long size) {
+        this.regions = regions.toArray(new ByteBuffer[0]);
+        this.bases = bases.stream().mapToLong(Long::longValue).toArray();
+        this.size = size;
+    }
+
+    static MappedRegions fixedWidth(Path file, int width, ByteOrder order) {
+        return fixedWidth(file, width, order, MAX_REGION_BYTES);
+    }
+
+    static MappedRegions fixedWidth(Path file, int width, ByteOrder order, long maxRegionBytes) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("width must be positive: " + width);
+        }
+        requireRegionBytes(maxRegionBytes, width);
+        long regionBytes = maxRegionBytes / width * width;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size() / width * width;
+            List<ByteBuffer> regions = new ArrayList<>();
+            List<Long> bases = new ArrayList<>();
+            for (long base = 0; base < size; base += regionBytes) {
+                regions.add(channel.map(FileChannel.MapMode.READ_ONLY, base, Math.min(regionBytes, size - base)).order(order));
+                bases.add(base);
+            }
+            return new MappedRegions(regions, bases, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static MappedRegions lines(Path file) {
+        return lines(file, MAX_REGION_BYTES);
+    }
+
+    static MappedRegions lines(Path file, long maxRegionBytes) {
+        requireRegionBytes(maxRegionBytes, 1);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<ByteBuffer> regions = new ArrayList<>();
+            List<Long> bases = new ArrayList<>();
+            long base = 0;
+            while (base < size) {
+                long length = Math.min(maxRegionBytes, size - base);
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+                if (base + length < size) {
+                    int end = (int) length;
+                    while (end > 0 && region.get(end - 1) != '\n') {
+                        end--;
+                    }
+                    if (end == 0) {
+                        throw new IllegalArgumentException("Line at offset " + base + " is longer than " + maxRegionBytes + " bytes");
+                    }
+                    length = end;
+                    region = region.slice(0, end);
+                }
+                regions.add(region);
+                bases.add(base);
+                base += length;
+            }
+            return new MappedRegions(regions, bases, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void requireRegionBytes(long maxRegionBytes, int width) {
+        if (maxRegionBytes < width || maxRegionBytes > MAX_REGION_BYTES) {
+            throw new IllegalArgumentException("maxRegionBytes must be between " + width + " and " + MAX_REGION_BYTES + ": " + maxRegionBytes);
+        }
+    }
+
+    int regionOf(long position) {
+        int low = 0;
+        int high = bases.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (bases[mid] <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,283 @@
+package org.eljhoset.stream.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sources that memory-map a file and read fixed-width records or lines straight from the mapping. Their spliterators
+ * split by position, so the resulting streams can be folded in parallel. Trailing bytes that do not form a whole
+ * record are ignored.
+ */
+public interface MappedSources {
+
+    static LongStream longs(Path file, ByteOrder order) {
+        MappedRegions regions = MappedRegions.fixedWidth(file, Long.BYTES, order);
+        return StreamSupport.longStream(new LongRecordSpliterator(regions, 0, regions.size / Long.BYTES), false);
+    }
+
+    static LongStream longs(Path file) {
+        return longs(file, ByteOrder.BIG_ENDIAN);
+    }
+
+    static DoubleStream doubles(Path file, ByteOrder order) {
+        MappedRegions regions = MappedRegions.fixedWidth(file, Double.BYTES, order);
+        return StreamSupport.doubleStream(new DoubleRecordSpliterator(regions, 0, regions.size / Double.BYTES), false);
+    }
+
+    static DoubleStream doubles(Path file) {
+        return doubles(file, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Streams read-only views of each record. The views share the mapping, so reading a field does not copy the record.
+     */
+    static Stream<ByteBuffer> records(Path file, int recordSize, ByteOrder order) {
+        MappedRegions regions = MappedRegions.fixedWidth(file, recordSize, order);
+        return StreamSupport.stream(new RecordSpliterator(regions, recordSize, 0, regions.size / recordSize), false);
+    }
+
+    static Stream<ByteBuffer> records(Path file, int recordSize) {
+        return records(file, recordSize, ByteOrder.BIG_ENDIAN);
+    }
+
+    /**
+     * Streams read-only views of each line without its terminating {@code \n} or {@code \r\n}, leaving decoding to the
+     * caller.
+     */
+    static Stream<ByteBuffer> lines(Path file) {
+        MappedRegions regions = MappedRegions.lines(file);
+        return StreamSupport.stream(new LineSpliterator(regions, 0, regions.size), false);
+    }
+
+    abstract class IndexSpliterator {
+        final MappedRegions regions;
+        final int width;
+        long index;
+        final long end;
+
+        IndexSpliterator(MappedRegions regions, int width, long index, long end) {
+            this.regions = regions;
+            this.width = width;
+            this.index = index;
+            this.end = end;
+        }
+
+        long splitPoint() {
+            long mid = (index + end) >>> 1;
+            return mid <= index ? -1 : mid;
+        }
+
+        int regionOf(long index) {
+            return regions.regionOf(index * width);
+        }
+
+        int offset(long index, int region) {
+            return (int) (index * width - regions.bases[region]);
+        }
+
+        public long estimateSize() {
+            return end - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+        }
+    }
+
+    class LongRecordSpliterator extends IndexSpliterator implements Spliterator.OfLong {
+
+        LongRecordSpliterator(MappedRegions regions, long index, long end) {
+            super(regions, Long.BYTES, index, end);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            int r = regionOf(index);
+            action.accept(regions.regions[r].getLong(offset(index, r)));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            while (index < end) {
+                int r = regionOf(index);
+                ByteBuffer region = regions.regions[r];
+                int offset = offset(index, r);
+                long stop = Math.min(end, index + (region.limit() - offset) / Long.BYTES);
+                for (; index < stop; index++, offset += Long.BYTES) {
+                    action.accept(region.getLong(offset));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long mid = splitPoint();
+            if (mid < 0) {
+                return null;
+            }
+            LongRecordSpliterator prefix = new LongRecordSpliterator(regions, index, mid);
+            index = mid;
+            return prefix;
+        }
+    }
+
+    class DoubleRecordSpliterator extends IndexSpliterator implements Spliterator.OfDouble {
+
+        DoubleRecordSpliterator(MappedRegions regions, long index, long end) {
+            super(regions, Double.BYTES, index, end);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            int r = regionOf(index);
+            action.accept(regions.regions[r].getDouble(offset(index, r)));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            while (index < end) {
+                int r = regionOf(index);
+                ByteBuffer region = regions.regions[r];
+                int offset = offset(index, r);
+                long stop = Math.min(end, index + (region.limit() - offset) / Double.BYTES);
+                for (; index < stop; index++, offset += Double.BYTES) {
+                    action.accept(region.getDouble(offset));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            long mid = splitPoint();
+            if (mid < 0) {
+                return null;
+            }
+            DoubleRecordSpliterator prefix = new DoubleRecordSpliterator(regions, index, mid);
+            index = mid;
+            return prefix;
+        }
+    }
+
+    class RecordSpliterator extends IndexSpliterator implements Spliterator<ByteBuffer> {
+
+        RecordSpliterator(MappedRegions regions, int recordSize, long index, long end) {
+            super(regions, recordSize, index, end);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ByteBuffer> action) {
+            if (index >= end) {
+                return false;
+            }
+            int r = regionOf(index);
+            ByteBuffer region = regions.regions[r];
+            action.accept(region.slice(offset(index, r), width).order(region.order()));
+            index++;
+            return true;
+        }
+
+        @Override
+        public Spliterator<ByteBuffer> trySplit() {
+            long mid = splitPoint();
+            if (mid < 0) {
+                return null;
+            }
+            RecordSpliterator prefix = new RecordSpliterator(regions, width, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public int characteristics() {
+            return super.characteristics() | Spliterator.NONNULL;
+        }
+    }
+
+    class LineSpliterator implements Spliterator<ByteBuffer> {
+        private final MappedRegions regions;
+        private long position;
+        private final long end;
+
+        LineSpliterator(MappedRegions regions, long position, long end) {
+            this.regions = regions;
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super ByteBuffer> action) {
+            if (position >= end) {
+                return false;
+            }
+            int r = regions.regionOf(position);
+            ByteBuffer region = regions.regions[r];
+            int start = (int) (position - regions.bases[r]);
+            int newline = start;
+            while (newline < region.limit() && region.get(newline) != '\n') {
+                newline++;
+            }
+            int stop = newline;
+            if (stop > start && region.get(stop - 1) == '\r') {
+                stop--;
+            }
+            position = regions.bases[r] + Math.min(newline + 1, region.limit());
+            action.accept(region.slice(start, stop - start));
+            return true;
+        }
+
+        @Override
+        public Spliterator<ByteBuffer> trySplit() {
+            if (position >= end || regions.regions.length == 0) {
+                return null;
+            }
+            long mid = lineStartAfter((position + end) >>> 1);
+            if (mid <= position || mid >= end) {
+                return null;
+            }
+            LineSpliterator prefix = new LineSpliterator(regions, position, mid);
+            position = mid;
+            return prefix;
+        }
+
+        private long lineStartAfter(long from) {
+            int r = regions.regionOf(from);
+            ByteBuffer region = regions.regions[r];
+            int offset = (int) (from - regions.bases[r]);
+            if (offset > 0) {
+                while (offset < region.limit() && region.get(offset - 1) != '\n') {
+                    offset++;
+                }
+            }
+            return regions.bases[r] + offset;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | IMMUTABLE | NONNULL;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.eljhoset.stream.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+/**
+ * Growable storage of 8-byte primitives outside the Java heap, split into chunks of direct or memory-mapped buffers so
+ * that it can hold more than {@link Integer#MAX_VALUE} bytes. Chunks start at {@code 1 << firstShift} values and double
+ * in size up to {@code 1 << maxShift} values, so small buffers stay small. Direct chunks are released when the buffer
+ * becomes unreachable; mapped chunks are backed by the file, which {@link #close()} truncates to the written size.
+ * A closed buffer rejects any further access.
+ */
+abstract class OffHeapBuffer implements AutoCloseable {
+    static final int WIDTH = Long.BYTES;
+    static final int FIRST_CHUNK_SHIFT = 10;
+    static final int MAX_CHUNK_SHIFT = 24;
+
+    private final int firstShift;
+    private final int maxShift;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private final FileChannel channel;
+    private boolean closed = false;
+    long size = 0;
+
+    OffHeapBuffer(Path file, int firstShift, int maxShift) {
+        if (firstShift < 0 || maxShift < firstShift || maxShift > 27) {
+            throw new IllegalArgumentException("Invalid chunk shifts: " + firstShift + ", " + maxShift);
+        }
+        this.firstShift = firstShift;
+        this.maxShift = maxShift;
+        this.channel = file == null ? null : open(file);
+    }
+
+    public long size() {
+        return size;
+    }
+
+    long capacity() {
+        return chunkStart(chunks.size());
+    }
+
+    ByteBuffer chunk(long index) {
+        checkOpen();
+        return chunks.get(chunkIndex(index));
+    }
+
+    int offset(long index) {
+        long shifted = index + (1L << firstShift);
+        long inChunk = shifted < 1L << maxShift ? shifted - Long.highestOneBit(shifted) : shifted & ((1L << maxShift) - 1);
+        return (int) inChunk * WIDTH;
+    }
+
+    long chunkEnd(long index) {
+        return chunkStart(chunkIndex(index) + 1);
+    }
+
+    ByteBuffer chunkForAppend() {
+        checkOpen();
+        int chunk = chunkIndex(size);
+        if (chunk == chunks.size()) {
+            chunks.add(allocate(chunk));
+        }
+        return chunks.get(chunk);
+    }
+
+    void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Buffer is closed");
+        }
+    }
+
+    // chunk k covers the shifted indices [1 << (firstShift + k), 1 << (firstShift + k + 1)) until the size reaches
+    // 1 << maxShift, and runs of 1 << maxShift indices after that
+    private int chunkIndex(long index) {
+        long shifted = index + (1L << firstShift);
+        if (shifted < 1L << maxShift) {
+            return 63 - Long.numberOfLeadingZeros(shifted) - firstShift;
+        }
+        return (int) ((shifted >>> maxShift) + maxShift - firstShift - 1);
+    }
+
+    private long chunkStart(int chunk) {
+        int doubling = maxShift - firstShift;
+        long shifted = chunk <= doubling ? 1L << (firstShift + chunk) : (long) (chunk - doubling + 1) << maxShift;
+        return shifted - (1L << firstShift);
+    }
+
+    private ByteBuffer allocate(int chunk) {
+        long start = chunkStart(chunk);
+        int bytes = (int) ((chunkStart(chunk + 1) - start) * WIDTH);
+        if (channel == null) {
+            return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        }
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, start * WIDTH, bytes).order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FileChannel open(Path file) {
+        try {
+            return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (channel == null) {
+            return;
+        }
+        try (channel) {
+            channel.truncate(size * WIDTH);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    abstract static class IndexSpliterator<S extends Spliterator<?>> {
+        long index;
+        final long end;
+
+        IndexSpliterator(long index, long end) {
+            this.index = index;
+            this.end = end;
+        }
+
+        abstract S prefix(long from, long to);
+
+        public S trySplit() {
+            long mid = (index + end) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            S prefix = prefix(index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        public long estimateSize() {
+            return end - index;
+        }
+
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
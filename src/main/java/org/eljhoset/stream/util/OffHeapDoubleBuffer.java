@@ -0,0 +1,81 @@
+package org.eljhoset.stream.util;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+public final class OffHeapDoubleBuffer extends OffHeapBuffer implements DoubleConsumer {
+
+    public OffHeapDoubleBuffer() {
+        this(null, FIRST_CHUNK_SHIFT, MAX_CHUNK_SHIFT);
+    }
+
+    OffHeapDoubleBuffer(Path file, int firstShift, int maxShift) {
+        super(file, firstShift, maxShift);
+    }
+
+    public static OffHeapDoubleBuffer mapped(Path file) {
+        return new OffHeapDoubleBuffer(file, FIRST_CHUNK_SHIFT, MAX_CHUNK_SHIFT);
+    }
+
+    public void add(double value) {
+        chunkForAppend().putDouble(offset(size), value);
+        size++;
+    }
+
+    @Override
+    public void accept(double value) {
+        add(value);
+    }
+
+    public double get(long index) {
+        checkIndex(index);
+        return chunk(index).getDouble(offset(index));
+    }
+
+    public DoubleStream stream() {
+        return StreamSupport.doubleStream(new DoubleBufferSpliterator(0, size), false);
+    }
+
+    public PrimitiveIterator.OfDouble iterator() {
+        return Spliterators.iterator(new DoubleBufferSpliterator(0, size));
+    }
+
+    private final class DoubleBufferSpliterator extends IndexSpliterator<Spliterator.OfDouble> implements Spliterator.OfDouble {
+
+        DoubleBufferSpliterator(long index, long end) {
+            super(index, end);
+        }
+
+        @Override
+        Spliterator.OfDouble prefix(long from, long to) {
+            return new DoubleBufferSpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(chunk(index).getDouble(offset(index)));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            while (index < end) {
+                ByteBuffer chunk = chunk(index);
+                long chunkEnd = Math.min(end, chunkEnd(index));
+                for (int offset = offset(index); index < chunkEnd; index++, offset += WIDTH) {
+                    action.accept(chunk.getDouble(offset));
+                }
+            }
+        }
+    }
+}
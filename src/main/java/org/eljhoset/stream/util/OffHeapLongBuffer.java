@@ -0,0 +1,81 @@
+package org.eljhoset.stream.util;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+public final class OffHeapLongBuffer extends OffHeapBuffer implements LongConsumer {
+
+    public OffHeapLongBuffer() {
+        this(null, FIRST_CHUNK_SHIFT, MAX_CHUNK_SHIFT);
+    }
+
+    OffHeapLongBuffer(Path file, int firstShift, int maxShift) {
+        super(file, firstShift, maxShift);
+    }
+
+    public static OffHeapLongBuffer mapped(Path file) {
+        return new OffHeapLongBuffer(file, FIRST_CHUNK_SHIFT, MAX_CHUNK_SHIFT);
+    }
+
+    public void add(long value) {
+        chunkForAppend().putLong(offset(size), value);
+        size++;
+    }
+
+    @Override
+    public void accept(long value) {
+        add(value);
+    }
+
+    public long get(long index) {
+        checkIndex(index);
+        return chunk(index).getLong(offset(index));
+    }
+
+    public LongStream stream() {
+        return StreamSupport.longStream(new LongBufferSpliterator(0, size), false);
+    }
+
+    public PrimitiveIterator.OfLong iterator() {
+        return Spliterators.iterator(new LongBufferSpliterator(0, size));
+    }
+
+    private final class LongBufferSpliterator extends IndexSpliterator<Spliterator.OfLong> implements Spliterator.OfLong {
+
+        LongBufferSpliterator(long index, long end) {
+            super(index, end);
+        }
+
+        @Override
+        Spliterator.OfLong prefix(long from, long to) {
+            return new LongBufferSpliterator(from, to);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (index >= end) {
+                return false;
+            }
+            action.accept(chunk(index).getLong(offset(index)));
+            index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            while (index < end) {
+                ByteBuffer chunk = chunk(index);
+                long chunkEnd = Math.min(end, chunkEnd(index));
+                for (int offset = offset(index); index < chunkEnd; index++, offset += WIDTH) {
+                    action.accept(chunk.getLong(offset));
+                }
+            }
+        }
+    }
+}
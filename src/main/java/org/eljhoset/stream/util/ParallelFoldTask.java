@@ -0,0 +1,105 @@
+package org.eljhoset.stream.util;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+final class ParallelFoldTask<T, U> extends RecursiveTask<ParallelFoldTask.Chunk<U>> {
+    private static final long serialVersionUID = 1L;
+    private static final int LEAF_TARGET = ForkJoinPool.getCommonPoolParallelism() << 2;
+    private static final int CANCELLATION_CHECK_MASK = 1023;
+
+    private final Spliterator<T> split;
+    private final Supplier<U> init;
+    private final Predicate<T> breaker;
+    private final BiFunction<U, ? super T, U> op;
+    private final BinaryOperator<U> combiner;
+    private final long threshold;
+    private final ParallelFoldTask<T, U> parent;
+    private ParallelFoldTask<T, U> left;
+    private ParallelFoldTask<T, U> right;
+    private volatile boolean cancelled = false;
+
+    ParallelFoldTask(Spliterator<T> split, Supplier<U> init, Predicate<T> breaker, BiFunction<U, ? super T, U> op, BinaryOperator<U> combiner) {
+        this(split, init, breaker, op, combiner, Math.max(split.estimateSize() / LEAF_TARGET, 1), null);
+    }
+
+    private ParallelFoldTask(Spliterator<T> split, Supplier<U> init, Predicate<T> breaker, BiFunction<U, ? super T, U> op, BinaryOperator<U> combiner, long threshold, ParallelFoldTask<T, U> parent) {
+        this.split = split;
+        this.init = init;
+        this.breaker = breaker;
+        this.op = op;
+        this.combiner = combiner;
+        this.threshold = threshold;
+        this.parent = parent;
+    }
+
+    @Override
+    protected Chunk<U> compute() {
+        if (isCancelledByLeft()) {
+            return new Chunk<>(init.get(), false);
+        }
+        Spliterator<T> prefix;
+        if (split.estimateSize() > threshold && (prefix = split.trySplit()) != null) {
+            left = new ParallelFoldTask<>(prefix, init, breaker, op, combiner, threshold, this);
+            right = new ParallelFoldTask<>(split, init, breaker, op, combiner, threshold, this);
+            right.fork();
+            Chunk<U> l = left.compute();
+            if (l.tripped) {
+                right.cancel(false);
+                return l;
+            }
+            Chunk<U> r = right.join();
+            return new Chunk<>(combiner.apply(l.value, r.value), r.tripped);
+        }
+        return fold();
+    }
+
+    private Chunk<U> fold() {
+        FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+        U u = init.get();
+        long count = 0;
+        while (split.tryAdvance(box)) {
+            if (breaker.test(box.value)) {
+                cancelRight();
+                return new Chunk<>(u, true);
+            }
+            u = op.apply(u, box.value);
+            if ((++count & CANCELLATION_CHECK_MASK) == 0 && isCancelledByLeft()) {
+                break;
+            }
+        }
+        return new Chunk<>(u, false);
+    }
+
+    private void cancelRight() {
+        for (ParallelFoldTask<T, U> node = this; node.parent != null; node = node.parent) {
+            if (node == node.parent.left) {
+                node.parent.right.cancelled = true;
+            }
+        }
+    }
+
+    private boolean isCancelledByLeft() {
+        for (ParallelFoldTask<T, U> node = this; node != null; node = node.parent) {
+            if (node.cancelled) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static final class Chunk<U> {
+        final U value;
+        final boolean tripped;
+
+        Chunk(U value, boolean tripped) {
+            this.value = value;
+            this.tripped = tripped;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.eljhoset.stream.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class ParallelPrefix<T> {
+    private static final int LEAF_TARGET = ForkJoinPool.getCommonPoolParallelism() << 2;
+    private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final Supplier<T> init;
+    private final BinaryOperator<T> op;
+    private final Object[] values;
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    private ParallelPrefix(Supplier<T> init, BinaryOperator<T> op, int size) {
+        this.init = init;
+        this.op = op;
+        this.values = new Object[size];
+    }
+
+    static <T> Object[] scan(Stream<T> stream, Supplier<T> init, BinaryOperator<T> op) {
+        // a sequential pipeline's spliterator does not split, so ask for the parallel one
+        Spliterator<T> split = stream.parallel().spliterator();
+        if (!split.hasCharacteristics(Spliterator.SUBSIZED)) {
+            @SuppressWarnings("unchecked")
+            T[] array = (T[]) StreamSupport.stream(split, true).toArray();
+            split = Arrays.spliterator(array);
+        }
+        if (split.getExactSizeIfKnown() > MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Stream size exceeds max array length");
+        }
+        ParallelPrefix<T> prefix = new ParallelPrefix<>(init, op, (int) split.getExactSizeIfKnown());
+        prefix.split(split, 0, Math.max(split.estimateSize() / LEAF_TARGET, 1));
+        return prefix.run();
+    }
+
+    private void split(Spliterator<T> split, int offset, long threshold) {
+        Spliterator<T> prefix;
+        if (split.estimateSize() > threshold && (prefix = split.trySplit()) != null) {
+            int size = (int) prefix.getExactSizeIfKnown();
+            split(prefix, offset, threshold);
+            split(split, offset + size, threshold);
+        } else if (split.estimateSize() > 0) {
+            chunks.add(new Chunk(split, offset, (int) split.getExactSizeIfKnown()));
+        }
+    }
+
+    private Object[] run() {
+        ForkJoinTask.invokeAll(chunks.stream().map(c -> ForkJoinTask.adapt(c::upSweep)).toList());
+        T carry = init.get();
+        for (Chunk chunk : chunks) {
+            chunk.carry = carry;
+            carry = op.apply(carry, chunk.total());
+        }
+        ForkJoinTask.invokeAll(chunks.stream().map(c -> ForkJoinTask.adapt(c::downSweep)).toList());
+        return values;
+    }
+
+    private final class Chunk {
+        private final Spliterator<T> split;
+        private final int offset;
+        private final int size;
+        private T carry;
+
+        Chunk(Spliterator<T> split, int offset, int size) {
+            this.split = split;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        void upSweep() {
+            FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+            int i = offset;
+            split.tryAdvance(box);
+            T u = box.value;
+            values[i] = u;
+            while (split.tryAdvance(box)) {
+                u = op.apply(u, box.value);
+                values[++i] = u;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        T total() {
+            return (T) values[offset + size - 1];
+        }
+
+        @SuppressWarnings("unchecked")
+        void downSweep() {
+            for (int i = offset, end = offset + size; i < end; i++) {
+                values[i] = op.apply(carry, (T) values[i]);
+            }
+        }
+    }
+}
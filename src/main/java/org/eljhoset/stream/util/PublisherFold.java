@@ -0,0 +1,185 @@
+package org.eljhoset.stream.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public interface PublisherFold {
+
+    static <T, U> CompletableFuture<U> foldLeft(Flow.Publisher<T> publisher, Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        FoldSubscriber<T, U> subscriber = new FoldSubscriber<>(init, breaker, op, batchSize);
+        publisher.subscribe(subscriber);
+        return subscriber.result;
+    }
+
+    static <T, U> CompletableFuture<U> foldLeft(Flow.Publisher<T> publisher, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, int batchSize) {
+        return foldLeft(publisher, init, (u, t) -> false, op, batchSize);
+    }
+
+    static <T> Flow.Publisher<T> scanLeft(Flow.Publisher<T> publisher, Supplier<T> init, Predicate<T> breaker, BinaryOperator<T> op) {
+        return subscriber -> publisher.subscribe(new ScanSubscriber<>(subscriber, init, breaker, op));
+    }
+
+    static <T> Flow.Publisher<T> scanLeft(Flow.Publisher<T> publisher, Supplier<T> init, BinaryOperator<T> op) {
+        return scanLeft(publisher, init, t -> false, op);
+    }
+
+    class FoldSubscriber<T, U> implements Flow.Subscriber<T> {
+        final CompletableFuture<U> result = new CompletableFuture<>();
+        private final Supplier<U> init;
+        private final BiPredicate<U, T> breaker;
+        private final BiFunction<? super U, ? super T, ? extends U> op;
+        private final int batchSize;
+        private final int replenish;
+        private Flow.Subscription subscription;
+        private int consumed = 0;
+        private boolean done = false;
+        private U u;
+
+        FoldSubscriber(Supplier<U> init, BiPredicate<U, T> breaker, BiFunction<? super U, ? super T, ? extends U> op, int batchSize) {
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+            this.batchSize = batchSize;
+            this.replenish = Math.max(batchSize - (batchSize >> 2), 1);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            result.whenComplete((u, e) -> subscription.cancel());
+            try {
+                u = init.get();
+            } catch (Throwable e) {
+                fail(e);
+                return;
+            }
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            try {
+                if (breaker.test(u, t)) {
+                    done = true;
+                    result.complete(u);
+                    return;
+                }
+                u = op.apply(u, t);
+            } catch (Throwable e) {
+                fail(e);
+                return;
+            }
+            if (++consumed == replenish) {
+                consumed = 0;
+                subscription.request(replenish);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                result.completeExceptionally(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                result.complete(u);
+            }
+        }
+
+        private void fail(Throwable e) {
+            done = true;
+            result.completeExceptionally(e);
+        }
+    }
+
+    class ScanSubscriber<T> implements Flow.Subscriber<T>, Flow.Subscription {
+        private final Flow.Subscriber<? super T> downstream;
+        private final Supplier<T> init;
+        private final Predicate<T> breaker;
+        private final BinaryOperator<T> op;
+        private Flow.Subscription upstream;
+        private T prev;
+        private boolean started = false;
+        private boolean done = false;
+
+        ScanSubscriber(Flow.Subscriber<? super T> downstream, Supplier<T> init, Predicate<T> breaker, BinaryOperator<T> op) {
+            this.downstream = downstream;
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                return;
+            }
+            T value;
+            try {
+                if (breaker.test(t)) {
+                    done = true;
+                    upstream.cancel();
+                    downstream.onComplete();
+                    return;
+                }
+                value = op.apply(started ? prev : init.get(), t);
+            } catch (Throwable e) {
+                done = true;
+                upstream.cancel();
+                downstream.onError(e);
+                return;
+            }
+            prev = t;
+            started = true;
+            downstream.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                downstream.onComplete();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            upstream.cancel();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.eljhoset.stream.util;
+
+import java.io.*;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Folds that periodically checkpoint the accumulator and the number of elements folded so far, and that resume from
+ * the last checkpoint of their sink by skipping the already folded prefix. A completed fold leaves a final checkpoint,
+ * so folding the same source again returns the stored result.
+ */
+public interface ResumableFold {
+
+    static <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, BiPredicate<U, T> breaker, final BiFunction<? super U, ? super T, ? extends U> op, Checkpointer<U> checkpointer) {
+        Spliterator<T> split = stream.spliterator();
+        FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+        Optional<Checkpoint> last = checkpointer.sink.read();
+        long offset = 0;
+        U u;
+        if (last.isPresent()) {
+            u = checkpointer.serializer.deserialize(last.get().state());
+            while (offset < last.get().offset() && split.tryAdvance(box)) {
+                offset++;
+            }
+        } else {
+            u = init.get();
+        }
+        long nextOffset = offset + Math.min(checkpointer.everyElements, Long.MAX_VALUE - offset);
+        long lastNanos = System.nanoTime();
+        while (split.tryAdvance(box) && !breaker.test(u, box.value)) {
+            u = op.apply(u, box.value);
+            offset++;
+            if (offset >= nextOffset || ((offset & Checkpointer.CLOCK_CHECK_MASK) == 0 && System.nanoTime() - lastNanos >= checkpointer.everyNanos)) {
+                checkpointer.checkpoint(offset, u);
+                nextOffset = offset + Math.min(checkpointer.everyElements, Long.MAX_VALUE - offset);
+                lastNanos = System.nanoTime();
+            }
+        }
+        checkpointer.checkpoint(offset, u);
+        checkpointer.sink.flush();
+        return u;
+    }
+
+    static <T, U> U foldLeft(Stream<T> stream, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, Checkpointer<U> checkpointer) {
+        return foldLeft(stream, init, (u, t) -> false, op, checkpointer);
+    }
+
+    record Checkpoint(long offset, byte[] state) {
+    }
+
+    interface Serializer<U> {
+        byte[] serialize(U u);
+
+        U deserialize(byte[] state);
+
+        static <U extends Serializable> Serializer<U> java() {
+            return new Serializer<>() {
+                public byte[] serialize(U u) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                        out.writeObject(u);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return bytes.toByteArray();
+                }
+
+                @SuppressWarnings("unchecked")
+                public U deserialize(byte[] state) {
+                    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state))) {
+                        return (U) in.readObject();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } catch (ClassNotFoundException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    interface Sink {
+        Optional<Checkpoint> read();
+
+        void write(Checkpoint checkpoint);
+
+        void flush();
+    }
+
+    final class Checkpointer<U> {
+        static final int CLOCK_CHECK_MASK = 1023;
+
+        private final Serializer<U> serializer;
+        private final Sink sink;
+        private final long everyElements;
+        private final long everyNanos;
+
+        private Checkpointer(Serializer<U> serializer, Sink sink, long everyElements, long everyNanos) {
+            this.serializer = serializer;
+            this.sink = sink;
+            this.everyElements = everyElements;
+            this.everyNanos = everyNanos;
+        }
+
+        public static <U> Checkpointer<U> of(Serializer<U> serializer, Sink sink, long everyElements, Duration every) {
+            if (everyElements <= 0 || every.isNegative() || every.isZero()) {
+                throw new IllegalArgumentException("Checkpoint intervals must be positive");
+            }
+            return new Checkpointer<>(serializer, sink, everyElements, every.toNanos());
+        }
+
+        public static <U> Checkpointer<U> everyElements(Serializer<U> serializer, Sink sink, long everyElements) {
+            return of(serializer, sink, everyElements, Duration.ofNanos(Long.MAX_VALUE));
+        }
+
+        public static <U> Checkpointer<U> every(Serializer<U> serializer, Sink sink, Duration every) {
+            return of(serializer, sink, Long.MAX_VALUE, every);
+        }
+
+        private void checkpoint(long offset, U u) {
+            sink.write(new Checkpoint(offset, serializer.serialize(u)));
+        }
+    }
+}
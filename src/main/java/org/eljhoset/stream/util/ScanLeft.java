@@ -1,22 +1,280 @@
 package org.eljhoset.stream.util;
 
-import java.util.Optional;
-import java.util.function.BiPredicate;
-import java.util.function.BinaryOperator;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
-
-import static org.eljhoset.stream.util.FoldLeft.foldLeft;
+import java.util.stream.StreamSupport;
 
 interface ScanLeft {
     static <T> Stream<T> scanLeft(Stream<T> stream, Supplier<T> init, Predicate<T> breaker, BinaryOperator<T> op) {
-        Supplier<Stream<T>> s = Stream::empty;
-        BiPredicate<Stream<T>, T> p = (u, t) -> breaker.test(t);
-        FoldLeft.TriFunction<Optional<T>, Stream<T>, T, Stream<T>> f = (prevOpt, u, t) -> Stream.concat(u,Stream.of( op.apply(prevOpt.orElse(init.get()), t)));
-        return foldLeft(stream, s, p, f);
+        ScanLeftSpliterator<T> split = new ScanLeftSpliterator<>(stream.spliterator(), init, breaker, op, false);
+        return StreamSupport.stream(split, stream.isParallel()).onClose(stream::close);
     }
+
     static <T> Stream<T> scanLeft(Stream<T> stream, Supplier<T> init, BinaryOperator<T> op) {
-        return scanLeft(stream, init, t -> false, op);
+        ScanLeftSpliterator<T> split = new ScanLeftSpliterator<>(stream.spliterator(), init, t -> false, op, true);
+        return StreamSupport.stream(split, stream.isParallel()).onClose(stream::close);
+    }
+
+    /**
+     * Computes the running results {@code init op t0 op ... op ti} of the stream in parallel, like
+     * {@link java.util.Arrays#parallelPrefix(Object[], BinaryOperator)}. Unlike {@code scanLeft}, which combines each
+     * element with its predecessor, every value carries the whole prefix, so {@code op} must be associative.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Stream<T> parallelPrefix(Stream<T> stream, Supplier<T> init, BinaryOperator<T> op) {
+        T[] values = (T[]) ParallelPrefix.scan(stream, init, op);
+        return Arrays.stream(values).onClose(stream::close);
+    }
+
+    static IntStream scanLeft(IntStream stream, IntSupplier init, IntPredicate breaker, IntBinaryOperator op) {
+        IntScanLeftSpliterator split = new IntScanLeftSpliterator(stream.spliterator(), init, breaker, op, false);
+        return StreamSupport.intStream(split, stream.isParallel()).onClose(stream::close);
+    }
+
+    static IntStream scanLeft(IntStream stream, IntSupplier init, IntBinaryOperator op) {
+        IntScanLeftSpliterator split = new IntScanLeftSpliterator(stream.spliterator(), init, t -> false, op, true);
+        return StreamSupport.intStream(split, stream.isParallel()).onClose(stream::close);
+    }
+
+    static LongStream scanLeft(LongStream stream, LongSupplier init, LongPredicate breaker, LongBinaryOperator op) {
+        LongScanLeftSpliterator split = new LongScanLeftSpliterator(stream.spliterator(), init, breaker, op, false);
+        return StreamSupport.longStream(split, stream.isParallel()).onClose(stream::close);
+    }
+
+    static LongStream scanLeft(LongStream stream, LongSupplier init, LongBinaryOperator op) {
+        LongScanLeftSpliterator split = new LongScanLeftSpliterator(stream.spliterator(), init, t -> false, op, true);
+        return StreamSupport.longStream(split, stream.isParallel()).onClose(stream::close);
+    }
+
+    static DoubleStream scanLeft(DoubleStream stream, DoubleSupplier init, DoublePredicate breaker, DoubleBinaryOperator op) {
+        DoubleScanLeftSpliterator split = new DoubleScanLeftSpliterator(stream.spliterator(), init, breaker, op, false);
+        return StreamSupport.doubleStream(split, stream.isParallel()).onClose(stream::close);
+    }
+
+    static DoubleStream scanLeft(DoubleStream stream, DoubleSupplier init, DoubleBinaryOperator op) {
+        DoubleScanLeftSpliterator split = new DoubleScanLeftSpliterator(stream.spliterator(), init, t -> false, op, true);
+        return StreamSupport.doubleStream(split, stream.isParallel()).onClose(stream::close);
+    }
+
+    static OffHeapLongBuffer scanLeft(LongStream stream, LongSupplier init, LongPredicate breaker, LongBinaryOperator op, OffHeapLongBuffer sink) {
+        scanLeft(stream, init, breaker, op).spliterator().forEachRemaining((LongConsumer) sink);
+        return sink;
+    }
+
+    static OffHeapLongBuffer scanLeft(LongStream stream, LongSupplier init, LongBinaryOperator op, OffHeapLongBuffer sink) {
+        scanLeft(stream, init, op).spliterator().forEachRemaining((LongConsumer) sink);
+        return sink;
+    }
+
+    static OffHeapDoubleBuffer scanLeft(DoubleStream stream, DoubleSupplier init, DoublePredicate breaker, DoubleBinaryOperator op, OffHeapDoubleBuffer sink) {
+        scanLeft(stream, init, breaker, op).spliterator().forEachRemaining((DoubleConsumer) sink);
+        return sink;
+    }
+
+    static OffHeapDoubleBuffer scanLeft(DoubleStream stream, DoubleSupplier init, DoubleBinaryOperator op, OffHeapDoubleBuffer sink) {
+        scanLeft(stream, init, op).spliterator().forEachRemaining((DoubleConsumer) sink);
+        return sink;
+    }
+
+    class ScanLeftSpliterator<T> implements Spliterator<T> {
+        private final Spliterator<T> source;
+        private final Supplier<T> init;
+        private final Predicate<T> breaker;
+        private final BinaryOperator<T> op;
+        private final boolean sized;
+        private final FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+        private T prev;
+        private boolean started = false;
+        private boolean done = false;
+
+        ScanLeftSpliterator(Spliterator<T> source, Supplier<T> init, Predicate<T> breaker, BinaryOperator<T> op, boolean sized) {
+            this.source = source;
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+            this.sized = sized;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (done || !source.tryAdvance(box) || breaker.test(box.value)) {
+                done = true;
+                return false;
+            }
+            T t = box.value;
+            // a null predecessor falls back to init, as an empty previous element always has
+            action.accept(op.apply(started && prev != null ? prev : init.get(), t));
+            prev = t;
+            started = true;
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            int mask = sized ? ORDERED | SIZED : ORDERED;
+            return source.characteristics() & mask;
+        }
+    }
+
+    class IntScanLeftSpliterator implements Spliterator.OfInt {
+        private final Spliterator.OfInt source;
+        private final IntSupplier init;
+        private final IntPredicate breaker;
+        private final IntBinaryOperator op;
+        private final boolean sized;
+        private final IntFoldLeft.IntBox box = new IntFoldLeft.IntBox();
+        private int prev;
+        private boolean started = false;
+        private boolean done = false;
+
+        IntScanLeftSpliterator(Spliterator.OfInt source, IntSupplier init, IntPredicate breaker, IntBinaryOperator op, boolean sized) {
+            this.source = source;
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+            this.sized = sized;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (done || !source.tryAdvance(box) || breaker.test(box.value)) {
+                done = true;
+                return false;
+            }
+            int t = box.value;
+            action.accept(op.applyAsInt(started ? prev : init.getAsInt(), t));
+            prev = t;
+            started = true;
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            int mask = sized ? ORDERED | SIZED : ORDERED;
+            return source.characteristics() & mask;
+        }
+    }
+
+    class LongScanLeftSpliterator implements Spliterator.OfLong {
+        private final Spliterator.OfLong source;
+        private final LongSupplier init;
+        private final LongPredicate breaker;
+        private final LongBinaryOperator op;
+        private final boolean sized;
+        private final LongFoldLeft.LongBox box = new LongFoldLeft.LongBox();
+        private long prev;
+        private boolean started = false;
+        private boolean done = false;
+
+        LongScanLeftSpliterator(Spliterator.OfLong source, LongSupplier init, LongPredicate breaker, LongBinaryOperator op, boolean sized) {
+            this.source = source;
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+            this.sized = sized;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (done || !source.tryAdvance(box) || breaker.test(box.value)) {
+                done = true;
+                return false;
+            }
+            long t = box.value;
+            action.accept(op.applyAsLong(started ? prev : init.getAsLong(), t));
+            prev = t;
+            started = true;
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            int mask = sized ? ORDERED | SIZED : ORDERED;
+            return source.characteristics() & mask;
+        }
+    }
+
+    class DoubleScanLeftSpliterator implements Spliterator.OfDouble {
+        private final Spliterator.OfDouble source;
+        private final DoubleSupplier init;
+        private final DoublePredicate breaker;
+        private final DoubleBinaryOperator op;
+        private final boolean sized;
+        private final DoubleFoldLeft.DoubleBox box = new DoubleFoldLeft.DoubleBox();
+        private double prev;
+        private boolean started = false;
+        private boolean done = false;
+
+        DoubleScanLeftSpliterator(Spliterator.OfDouble source, DoubleSupplier init, DoublePredicate breaker, DoubleBinaryOperator op, boolean sized) {
+            this.source = source;
+            this.init = init;
+            this.breaker = breaker;
+            this.op = op;
+            this.sized = sized;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (done || !source.tryAdvance(box) || breaker.test(box.value)) {
+                done = true;
+                return false;
+            }
+            double t = box.value;
+            action.accept(op.applyAsDouble(started ? prev : init.getAsDouble(), t));
+            prev = t;
+            started = true;
+            return true;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return done ? 0 : source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            int mask = sized ? ORDERED | SIZED : ORDERED;
+            return source.characteristics() & mask;
+        }
     }
 }
@@ -0,0 +1,185 @@
+package org.eljhoset.stream.util;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface WindowFold {
+
+    static <T, U> Stream<U> tumbling(Stream<T> stream, int size, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        requirePositive(size, "size");
+        TumblingSpliterator<T, U> split = new TumblingSpliterator<>(stream.spliterator(), size, init, op);
+        return StreamSupport.stream(split, false).onClose(stream::close);
+    }
+
+    static <T, U> Stream<U> sliding(Stream<T> stream, int size, int step, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        return sliding(stream, size, step, init, op, null);
+    }
+
+    static <T, U> Stream<U> sliding(Stream<T> stream, int size, int step, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op, final BiFunction<? super U, ? super T, ? extends U> inverse) {
+        requirePositive(size, "size");
+        requirePositive(step, "step");
+        SlidingSpliterator<T, U> split = new SlidingSpliterator<>(stream.spliterator(), size, step, init, op, inverse);
+        return StreamSupport.stream(split, false).onClose(stream::close);
+    }
+
+    static <T, U> Stream<U> session(Stream<T> stream, Function<? super T, ?> key, Supplier<U> init, final BiFunction<? super U, ? super T, ? extends U> op) {
+        SessionSpliterator<T, U> split = new SessionSpliterator<>(stream.spliterator(), key, init, op);
+        return StreamSupport.stream(split, false).onClose(stream::close);
+    }
+
+    private static void requirePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+    }
+
+    class TumblingSpliterator<T, U> extends Spliterators.AbstractSpliterator<U> {
+        private final Spliterator<T> source;
+        private final int size;
+        private final Supplier<U> init;
+        private final BiFunction<? super U, ? super T, ? extends U> op;
+        private final FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+
+        TumblingSpliterator(Spliterator<T> source, int size, Supplier<U> init, BiFunction<? super U, ? super T, ? extends U> op) {
+            super(Long.MAX_VALUE, source.characteristics() & ORDERED);
+            this.source = source;
+            this.size = size;
+            this.init = init;
+            this.op = op;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super U> action) {
+            if (!source.tryAdvance(box)) {
+                return false;
+            }
+            U u = op.apply(init.get(), box.value);
+            for (int n = 1; n < size && source.tryAdvance(box); n++) {
+                u = op.apply(u, box.value);
+            }
+            action.accept(u);
+            return true;
+        }
+    }
+
+    class SlidingSpliterator<T, U> extends Spliterators.AbstractSpliterator<U> {
+        private final Spliterator<T> source;
+        private final int step;
+        private final Supplier<U> init;
+        private final BiFunction<? super U, ? super T, ? extends U> op;
+        private final BiFunction<? super U, ? super T, ? extends U> inverse;
+        private final FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+        private final Object[] window;
+        private int head = 0;
+        private int count = 0;
+        private boolean started = false;
+        private U u;
+
+        SlidingSpliterator(Spliterator<T> source, int size, int step, Supplier<U> init, BiFunction<? super U, ? super T, ? extends U> op, BiFunction<? super U, ? super T, ? extends U> inverse) {
+            super(Long.MAX_VALUE, source.characteristics() & ORDERED);
+            this.source = source;
+            this.step = step;
+            this.init = init;
+            this.op = op;
+            this.inverse = inverse;
+            this.window = new Object[size];
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super U> action) {
+            if (!started) {
+                if (inverse != null) {
+                    u = init.get();
+                }
+                while (count < window.length) {
+                    if (!source.tryAdvance(box)) {
+                        return false;
+                    }
+                    add(box.value);
+                }
+                started = true;
+            } else {
+                for (int n = 0; n < step; n++) {
+                    if (!source.tryAdvance(box)) {
+                        return false;
+                    }
+                    add(box.value);
+                }
+            }
+            action.accept(inverse == null ? refold() : u);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void add(T t) {
+            int tail = (head + count) % window.length;
+            if (count == window.length) {
+                if (inverse != null) {
+                    u = inverse.apply(u, (T) window[head]);
+                }
+                head = (head + 1) % window.length;
+                count--;
+            }
+            window[tail] = t;
+            count++;
+            if (inverse != null) {
+                u = op.apply(u, t);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private U refold() {
+            U result = init.get();
+            for (int n = 0; n < count; n++) {
+                result = op.apply(result, (T) window[(head + n) % window.length]);
+            }
+            return result;
+        }
+    }
+
+    class SessionSpliterator<T, U> extends Spliterators.AbstractSpliterator<U> {
+        private final Spliterator<T> source;
+        private final Function<? super T, ?> key;
+        private final Supplier<U> init;
+        private final BiFunction<? super U, ? super T, ? extends U> op;
+        private final FoldLeft.BoxConsumer<T> box = new FoldLeft.BoxConsumer<>();
+        private boolean pending = false;
+        private Object pendingKey;
+
+        SessionSpliterator(Spliterator<T> source, Function<? super T, ?> key, Supplier<U> init, BiFunction<? super U, ? super T, ? extends U> op) {
+            super(Long.MAX_VALUE, source.characteristics() & ORDERED);
+            this.source = source;
+            this.key = key;
+            this.init = init;
+            this.op = op;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super U> action) {
+            if (!pending && !source.tryAdvance(box)) {
+                return false;
+            }
+            Object session = pending ? pendingKey : key.apply(box.value);
+            U u = op.apply(init.get(), box.value);
+            pending = false;
+            while (source.tryAdvance(box)) {
+                Object next = key.apply(box.value);
+                if (!Objects.equals(session, next)) {
+                    pending = true;
+                    pendingKey = next;
+                    break;
+                }
+                u = op.apply(u, box.value);
+            }
+            action.accept(u);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentFoldTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should map elements concurrently and combine them in encounter order")
+    public void foldLeft() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Stream<Integer> stream = IntStream.range(0, 40).boxed();
+
+        String result = ConcurrentFold.foldLeft(stream, () -> "", (Integer t) -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5 + (t * 7) % 11);
+            running.decrementAndGet();
+            return t + ",";
+        }, String::concat, 4, executor);
+
+        assertEquals(IntStream.range(0, 40).mapToObj(t -> t + ",").collect(Collectors.joining()), result);
+        assertTrue(peak.get() > 1);
+        assertTrue(peak.get() <= 4);
+    }
+
+    @Test
+    @DisplayName("Should stop mapping once the predicate is met")
+    public void foldLeftWithPredicate() {
+        AtomicInteger mapped = new AtomicInteger();
+        Stream<Integer> stream = Stream.iterate(0, t -> t + 1);
+
+        Integer result = ConcurrentFold.foldLeft(stream, () -> 0, (u, t) -> t == 10, (Integer t) -> {
+            mapped.incrementAndGet();
+            return t;
+        }, Integer::sum, 3, executor);
+
+        assertEquals(45, result);
+        assertTrue(mapped.get() <= 13);
+    }
+
+    @Test
+    @DisplayName("Should interrupt the mapping of the element that met the predicate")
+    public void foldLeftCancelsTrippedElement() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Stream<Integer> stream = IntStream.range(0, 5).boxed();
+
+        Integer result = ConcurrentFold.foldLeft(stream, () -> 0, (u, t) -> {
+            if (t == 1) {
+                await(started);
+                return true;
+            }
+            return false;
+        }, (Integer t) -> {
+            if (t == 1) {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+            return t;
+        }, Integer::sum, 1, executor);
+
+        assertEquals(0, result);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should rethrow the failure of a mapping")
+    public void foldLeftFailure() {
+        Stream<Integer> stream = IntStream.range(0, 10).boxed();
+
+        assertThrows(IllegalStateException.class, () -> ConcurrentFold.foldLeft(stream, () -> 0, (Integer t) -> {
+            if (t == 5) {
+                throw new IllegalStateException("lookup failed");
+            }
+            return t;
+        }, Integer::sum, 2));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
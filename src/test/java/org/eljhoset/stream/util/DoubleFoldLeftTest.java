@@ -0,0 +1,27 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.DoubleStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DoubleFoldLeftTest {
+
+    @Test
+    @DisplayName("Should stop traversing the stream if the condition in the predicate is met using the accumulated")
+    public void foldLeftWithPredicateByAccumulated() {
+        double result = DoubleFoldLeft.foldLeft(DoubleStream.of(0.5, 1.5, 2.5), () -> 0, (u, t) -> u > 1, Double::sum);
+
+        assertEquals(2.0, result);
+    }
+
+    @Test
+    @DisplayName("Should traverse the stream ignoring the predicate")
+    public void foldLeftIgnoringPredicate() {
+        double result = DoubleFoldLeft.foldLeft(DoubleStream.of(0.5, 1.5, 2.5), () -> 1, (u, t) -> Math.max(u, t));
+
+        assertEquals(2.5, result);
+    }
+}
@@ -7,12 +7,24 @@ import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -84,6 +96,29 @@ class FoldLeftTest {
         verify(op, times(1)).apply(eq(Optional.of(2)), anyString(), anyInt());
     }
     @Test
+    @DisplayName("Should pass the previous element and whether there is one")
+    public void foldLeftWithPrevious() {
+        Stream<Integer> stream = Stream.of(1, 4, 2, 7);
+        when(supplierElement.get()).thenReturn(0);
+
+        Integer result = FoldLeft.foldLeftWithPrevious(stream, supplierElement, (hasPrev, prev, u, t) -> hasPrev ? u + Math.abs(t - prev) : u);
+
+        verify(supplierElement, only()).get();
+        assertEquals(10, result);
+    }
+    @Test
+    @DisplayName("Should stop traversing the stream tracking the previous element if the condition in the predicate is met")
+    public void foldLeftWithPreviousPredicate() {
+        Stream<Integer> stream = Stream.of(1, 4, 2, 7);
+        when(supplier.get()).thenReturn("");
+        when(biPredicate.test(anyString(), anyInt())).thenReturn(false);
+        when(biPredicate.test(anyString(), eq(7))).thenReturn(true);
+
+        String result = FoldLeft.foldLeftWithPrevious(stream, supplier, biPredicate, (hasPrev, prev, u, t) -> hasPrev ? u + prev + ">" + t + " " : u);
+
+        assertEquals("1>4 4>2", result.trim());
+    }
+    @Test
     @DisplayName("Should call initial supplier only once")
     public void foldLeftInitialValue() {
         Stream<Integer> stream = Stream.of(1, 2, 3, 4);
@@ -184,6 +219,18 @@ class FoldLeftTest {
         assertEquals(10, result);
     }
     @Test
+    @DisplayName("Should traverse the stream in bulk when there is no predicate")
+    @SuppressWarnings("unchecked")
+    public void foldLeftBulkTraversal() {
+        Spliterator<Integer> split = mock(Spliterator.class, delegatesTo(Stream.of(1, 2, 3, 4).spliterator()));
+
+        Integer result = FoldLeft.foldLeft(StreamSupport.stream(split, false), () -> 0, Integer::sum);
+
+        verify(split).forEachRemaining(any());
+        verify(split, never()).tryAdvance(any());
+        assertEquals(10, result);
+    }
+    @Test
     @DisplayName("Should traverse the stream ignoring the predicate using consumer")
     public void foldLeftWithFunctionConsumer() {
         Stream<Integer> stream = Stream.of(1, 2, 3, 4);
@@ -217,6 +264,170 @@ class FoldLeftTest {
         assertEquals("0", result);
     }
 
+    @Test
+    @DisplayName("Should collect a large stream without overflowing the stack")
+    public void foldLeftCollectorLargeStream() {
+        Stream<Integer> stream = IntStream.range(0, 1_000_000).boxed();
+
+        Long result = stream.collect(FoldLeft.foldLeft(() -> 0L, (Long u, Integer t) -> u + t));
+
+        assertEquals(499_999_500_000L, result);
+    }
+    @Test
+    @DisplayName("Should combine partial results in a parallel stream using the combiner")
+    public void foldLeftCollectorParallel() {
+        Stream<Integer> stream = IntStream.rangeClosed(1, 10_000).boxed().parallel();
+
+        List<Integer> result = stream.collect(FoldLeft.foldLeft(ArrayList::new, (List<Integer> u, Integer t) -> u.add(t), (l, r) -> {
+            l.addAll(r);
+            return l;
+        }));
+
+        assertEquals(IntStream.rangeClosed(1, 10_000).boxed().toList(), result);
+    }
+    @Test
+    @DisplayName("Should fail in a parallel stream when no combiner is given")
+    public void foldLeftCollectorParallelWithoutCombiner() {
+        Stream<Integer> stream = IntStream.rangeClosed(1, 10_000).boxed().parallel();
+
+        assertThrows(IllegalStateException.class, () -> stream.collect(FoldLeft.foldLeft(() -> 0, Integer::sum)));
+    }
+    @Test
+    @DisplayName("Should combine optional partial results in a parallel stream using the combiner")
+    public void foldLeftCollectorOptionallyParallel() {
+        Stream<Integer> stream = IntStream.rangeClosed(1, 10_000).boxed().parallel();
+
+        Optional<Integer> result = stream.collect(FoldLeft.foldLeftOptionally(() -> 0, Integer::sum, Integer::sum));
+
+        assertEquals(Optional.of(50_005_000), result);
+    }
+
+    @Test
+    @DisplayName("Should fold the chunks in parallel combining them in encounter order")
+    public void foldLeftParallel() {
+        Stream<String> stream = IntStream.range(0, 100_000).mapToObj(Integer::toString).parallel();
+
+        String result = FoldLeft.foldLeftParallel(stream, () -> "", String::concat);
+
+        assertEquals(IntStream.range(0, 100_000).mapToObj(Integer::toString).collect(Collectors.joining()), result);
+    }
+    @Test
+    @DisplayName("Should discard the chunks to the right of the element that matches the predicate")
+    public void foldLeftParallelWithPredicate() {
+        Stream<Integer> stream = IntStream.range(0, 1_000_000).boxed().parallel();
+
+        Long result = FoldLeft.foldLeftParallel(stream, () -> 0L, t -> t == 600_000, (Long u, Integer t) -> u + t, Long::sum);
+
+        assertEquals(599_999L * 600_000L / 2, result);
+    }
+    @Test
+    @DisplayName("Should stop at the element that matches the predicate in a small stream")
+    public void foldLeftParallelSmallStream() {
+        Stream<Integer> stream = Stream.of(1, 2, 3, 4);
+
+        Integer result = FoldLeft.foldLeftParallel(stream, () -> 0, t -> t == 4, Integer::sum);
+
+        assertEquals(6, result);
+    }
+
+    @Test
+    @DisplayName("Should split a sequential pipeline with intermediate stages")
+    public void foldLeftParallelSequentialPipeline() {
+        AtomicInteger leaves = new AtomicInteger();
+        Stream<Integer> stream = IntStream.range(0, 100_000).boxed().map(t -> t % 7);
+
+        Long result = FoldLeft.foldLeftParallel(stream, () -> {
+            leaves.incrementAndGet();
+            return 0L;
+        }, (Long u, Integer t) -> u + t, Long::sum);
+
+        assertEquals(IntStream.range(0, 100_000).map(t -> t % 7).asLongStream().sum(), result);
+        assertTrue(leaves.get() > 1);
+    }
+
+    @Test
+    @DisplayName("Should fold each group into its own accumulator calling the initial supplier once per key")
+    public void groupingFold() {
+        Stream<Integer> stream = Stream.of(1, 2, 3, 4, 5);
+        when(supplier.get()).thenReturn("");
+
+        Map<Boolean, String> result = stream.collect(FoldLeft.groupingFold(t -> t % 2 == 0, supplier, (String u, Integer t) -> u + t));
+
+        verify(supplier, times(2)).get();
+        assertEquals(Map.of(true, "24", false, "135"), result);
+    }
+    @Test
+    @DisplayName("Should fold each group of a parallel stream merging them with the combiner")
+    public void groupingFoldParallel() {
+        Stream<Integer> stream = IntStream.range(0, 100_000).boxed().parallel();
+
+        Map<Integer, Long> result = stream.collect(FoldLeft.groupingFold(t -> t % 3, () -> 0L, (Long u, Integer t) -> u + 1, Long::sum));
+
+        assertEquals(Map.of(0, 33_334L, 1, 33_333L, 2, 33_333L), result);
+    }
+    @Test
+    @DisplayName("Should fold each group keyed by a primitive int")
+    public void groupingFoldByInt() {
+        Stream<Integer> stream = IntStream.range(0, 100_000).boxed().parallel();
+
+        IntObjectMap<Long> result = stream.collect(FoldLeft.groupingFoldByInt(t -> t % 1000, () -> 0L, (Long u, Integer t) -> u + t, Long::sum));
+
+        assertEquals(1000, result.size());
+        assertEquals(LongStream.range(0, 100).map(i -> i * 1000 + 7).sum(), result.get(7));
+    }
+    @Test
+    @DisplayName("Should fold each group keyed by a primitive long")
+    public void groupingFoldByLong() {
+        Stream<Integer> stream = Stream.of(1, 2, 3, 4, 5);
+
+        LongObjectMap<String> result = stream.collect(FoldLeft.groupingFoldByLong(t -> t * 10_000_000_000L % 3, () -> "", (String u, Integer t) -> u + t));
+
+        assertEquals(Map.of(0L, "3", 1L, "14", 2L, "25"), result.toMap());
+    }
+    @Test
+    @DisplayName("Should fold each group concurrently into a shared map")
+    public void groupingFoldConcurrent() {
+        Stream<Integer> stream = IntStream.range(0, 100_000).boxed().parallel();
+
+        Map<Integer, Long> result = stream.collect(FoldLeft.groupingFoldConcurrent(t -> t % 3, () -> 0L, (Long u, Integer t) -> u + 1));
+
+        assertEquals(Map.of(0, 33_334L, 1, 33_333L, 2, 33_333L), result);
+    }
+
+    @Test
+    @DisplayName("Should pass elements through until the accumulated state meets the predicate")
+    public void takeWhileFolding() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> stream = Stream.iterate(1, t -> t + 1).peek(t -> pulled.incrementAndGet());
+
+        List<Integer> result = FoldLeft.takeWhileFolding(stream, () -> 0, (u, t) -> u + t > 10, (Integer u, Integer t) -> u + t).toList();
+
+        assertEquals(List.of(1, 2, 3, 4), result);
+        assertEquals(5, pulled.get());
+    }
+    @Test
+    @DisplayName("Should stop a flat mapped source after the inner stream that met the predicate, which is buffered in full")
+    public void takeWhileFoldingFlatMap() {
+        AtomicInteger generated = new AtomicInteger();
+        Stream<Integer> stream = Stream.of(1, 2, 3).flatMap(t -> IntStream.range(0, 1000).peek(i -> generated.incrementAndGet()).boxed());
+
+        List<Integer> result = FoldLeft.takeWhileFolding(stream, () -> 0, (u, t) -> u >= 5, (Integer u, Integer t) -> u + 1).toList();
+
+        assertEquals(List.of(0, 1, 2, 3, 4), result);
+        assertEquals(1000, generated.get());
+    }
+    @Test
+    @DisplayName("Should keep the folded prefix when the downstream stages run in parallel")
+    public void takeWhileFoldingParallel() {
+        Stream<Integer> stream = IntStream.range(0, 100_000).boxed().parallel();
+
+        List<Integer> result = FoldLeft.takeWhileFolding(stream, () -> 0L, (u, t) -> u + t > 1_000_000L, (Long u, Integer t) -> u + t)
+                .map(t -> t * 2)
+                .toList();
+
+        assertEquals(IntStream.range(0, 1414).map(t -> t * 2).boxed().toList(), result);
+    }
+
     @Test
     @DisplayName("Should return a value wrapped in an optional")
     public void foldLeftOptionally() {
@@ -299,6 +510,46 @@ class FoldLeftTest {
         assertEquals(Optional.of("0"), result);
     }
 
+    @Test
+    @DisplayName("Should fold into a single mutable accumulator until the predicate is met")
+    public void foldLeftInPlaceWithPredicate() {
+        BiConsumer<long[], Integer> count = (u, t) -> u[t]++;
+        long[] histogram = FoldLeft.foldLeft(Stream.of(1, 3, 1, 2, 9, 0), () -> new long[4], (u, t) -> t >= u.length, count);
+
+        assertEquals(List.of(0L, 2L, 1L, 1L), LongStream.of(histogram).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("Should fold the first element before testing the predicate in place")
+    public void foldLeftOptionallyInPlaceWithPredicate() {
+        BiConsumer<StringBuilder, String> append = StringBuilder::append;
+        Optional<StringBuilder> result = FoldLeft.foldLeftOptionally(Stream.of("a", "b", "c"), StringBuilder::new, (u, t) -> true, append);
+        Optional<StringBuilder> empty = FoldLeft.foldLeftOptionally(Stream.<String>empty(), StringBuilder::new, (u, t) -> true, append);
+
+        assertEquals("a", result.map(StringBuilder::toString).orElseThrow());
+        assertEquals(Optional.empty(), empty);
+    }
+
+    @Test
+    @DisplayName("Should merge per-thread mutable accumulators in a parallel stream")
+    public void foldLeftInPlaceCollectorParallel() {
+        BitSet result = IntStream.range(0, 10_000).boxed().parallel()
+                .collect(FoldLeft.foldLeftInPlace(BitSet::new, (BitSet u, Integer t) -> u.set(t * 2), BitSet::or));
+
+        assertEquals(10_000, result.cardinality());
+        assertEquals(19_998, result.length() - 1);
+    }
+
+    @Test
+    @DisplayName("Should combine optional mutable accumulators in a parallel stream")
+    public void foldLeftCollectorOptionallyConsumerParallel() {
+        BiConsumer<StringBuilder, String> append = StringBuilder::append;
+        Optional<StringBuilder> result = IntStream.range(0, 1_000).mapToObj(i -> "x").parallel()
+                .collect(FoldLeft.foldLeftOptionally(StringBuilder::new, append, StringBuilder::append));
+
+        assertEquals(1_000, result.orElseThrow().length());
+    }
+
     private int sumParams(InvocationOnMock invocationOnMock, int x, int x1) {
         Object[] arguments = invocationOnMock.getArguments();
         return Stream.of(arguments[x], arguments[x1])
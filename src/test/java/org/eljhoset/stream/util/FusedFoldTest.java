@@ -0,0 +1,68 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusedFoldTest {
+
+    @Test
+    @DisplayName("Should compute several folds in a single traversal")
+    public void foldLeft() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> stream = IntStream.rangeClosed(1, 10).boxed().peek(t -> pulled.incrementAndGet());
+
+        FusedFold.Triple<Long, Integer, Integer> result = FusedFold.foldLeft(stream,
+                FusedFold.Definition.of(() -> 0L, (Long u, Integer t) -> u + 1),
+                FusedFold.Definition.of(() -> 0, Integer::sum),
+                FusedFold.Definition.of(() -> Integer.MIN_VALUE, Math::max));
+
+        assertEquals(new FusedFold.Triple<>(10L, 55, 10), result);
+        assertEquals(10, pulled.get());
+    }
+
+    @Test
+    @DisplayName("Should stop each fold on its own breaker")
+    public void foldLeftWithBreakers() {
+        FusedFold.Definition<Integer, Integer> sum = FusedFold.Definition.of(() -> 0, (u, t) -> u + t > 10, Integer::sum);
+        FusedFold.Definition<Integer, List<Integer>> firstThree = FusedFold.Definition.of(ArrayList::new, (u, t) -> u.size() == 3, (List<Integer> u, Integer t) -> {
+            u.add(t);
+            return u;
+        });
+
+        FusedFold.Pair<Integer, List<Integer>> result = FusedFold.foldLeft(Stream.of(1, 2, 3, 4, 5, 6), sum, firstThree);
+
+        assertEquals(10, result.first());
+        assertEquals(List.of(1, 2, 3), result.second());
+    }
+
+    @Test
+    @DisplayName("Should end the traversal once every fold has stopped")
+    public void foldLeftStopsTraversal() {
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> stream = Stream.iterate(1, t -> t + 1).peek(t -> pulled.incrementAndGet());
+        FusedFold.Definition<Integer, Integer> count = FusedFold.Definition.of(() -> 0, (u, t) -> u == 2, (u, t) -> u + 1);
+        FusedFold.Definition<Integer, Integer> sum = FusedFold.Definition.of(() -> 0, (u, t) -> t > 4, Integer::sum);
+
+        FusedFold.Results results = FusedFold.foldLeft(stream, List.of(count, sum));
+
+        assertEquals(2, results.get(count));
+        assertEquals(10, results.get(sum));
+        assertEquals(5, pulled.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a definition that was not part of the fold")
+    public void getUnknownDefinition() {
+        FusedFold.Results results = FusedFold.foldLeft(Stream.of(1), List.of(FusedFold.Definition.of(() -> 0, Integer::sum)));
+
+        assertThrows(IllegalArgumentException.class, () -> results.get(FusedFold.Definition.of(() -> 0, Integer::sum)));
+    }
+}
@@ -0,0 +1,115 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IncrementalFoldTest {
+
+    @Test
+    @DisplayName("Should fold only the elements appended since the last call")
+    public void get() {
+        List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
+        AtomicInteger applied = new AtomicInteger();
+        IncrementalFold<Integer, Integer> fold = IncrementalFold.of(source, () -> 0, (Integer u, Integer t) -> {
+            applied.incrementAndGet();
+            return u + t;
+        });
+
+        assertEquals(6, fold.get());
+        assertEquals(6, fold.get());
+        source.addAll(List.of(4, 5));
+
+        assertEquals(15, fold.get());
+        assertEquals(5, applied.get());
+        assertEquals(5, fold.position());
+    }
+
+    @Test
+    @DisplayName("Should stay stopped once the breaker trips")
+    public void getWithBreaker() {
+        List<Integer> source = new LinkedList<>(List.of(1, 2, 3));
+        IncrementalFold<Integer, Integer> fold = IncrementalFold.of(source, () -> 0, (u, t) -> t > 4, Integer::sum);
+
+        assertEquals(6, fold.get());
+        source.addAll(List.of(4, 5, 6));
+        assertEquals(10, fold.get());
+        source.add(1);
+        assertEquals(10, fold.get());
+    }
+
+    @Test
+    @DisplayName("Should reject a source that shrank")
+    public void getShrunkSource() {
+        List<Integer> source = new ArrayList<>(List.of(1, 2, 3));
+        IncrementalFold<Integer, Integer> fold = IncrementalFold.of(source, () -> 0, Integer::sum);
+        fold.get();
+        source.remove(2);
+        source.remove(1);
+        source.add(7);
+
+        assertThrows(IllegalStateException.class, fold::get);
+    }
+
+    @Test
+    @DisplayName("Should agree across concurrent readers while the source grows")
+    public void getConcurrently() throws Exception {
+        List<Long> source = new CopyOnWriteArrayList<>();
+        IncrementalFold<Long, Long> fold = IncrementalFold.of(source, () -> 0L, Long::sum);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 4; r++) {
+                readers.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        long value = fold.get();
+                        assertTrue(value >= 0);
+                    }
+                }));
+            }
+            for (long i = 1; i <= 1000; i++) {
+                source.add(i);
+            }
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(500500L, fold.get());
+    }
+
+    @Test
+    @DisplayName("Should cache handles by source identity and evict the least recently used")
+    public void cache() {
+        IncrementalFold.Cache<Integer, Integer> cache = IncrementalFold.Cache.of(2, () -> 0, Integer::sum);
+        List<Integer> a = new ArrayList<>(List.of(1, 2));
+        List<Integer> b = new ArrayList<>(List.of(1, 2));
+        List<Integer> c = new ArrayList<>(List.of(3));
+
+        assertEquals(3, cache.foldLeft(a));
+        assertNotSame(cache.handle(a), cache.handle(b));
+        IncrementalFold<Integer, Integer> handleA = cache.handle(a);
+        assertSame(handleA, cache.handle(a));
+
+        IncrementalFold<Integer, Integer> handleB = cache.handle(b);
+        cache.handle(a);
+
+        assertEquals(3, cache.foldLeft(c));
+        assertEquals(2, cache.size());
+        assertSame(handleA, cache.handle(a));
+        assertNotSame(handleB, cache.handle(b));
+    }
+}
@@ -0,0 +1,89 @@
+package org.eljhoset.stream.util;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentedFoldTest {
+
+    @Test
+    @DisplayName("Should report elements folded and the breaker position")
+    public void foldLeftWithBreaker() {
+        List<FoldListener.FoldStats> stats = new ArrayList<>();
+        InstrumentedFold fold = InstrumentedFold.of("sum", stats::add);
+
+        Integer result = fold.foldLeft(Stream.of(1, 2, 3, 4, 5), () -> 0, (u, t) -> u + t > 6, Integer::sum);
+
+        assertEquals(6, result);
+        assertEquals(1, stats.size());
+        FoldListener.FoldStats s = stats.get(0);
+        assertEquals("sum", s.name());
+        assertEquals(3, s.elements());
+        assertEquals(3, s.breakerPosition());
+        assertTrue(s.opNanos() >= 0);
+        assertTrue(s.traversalNanos() >= 0);
+    }
+
+    @Test
+    @DisplayName("Should count accumulator changes and report no breaker position when the stream is exhausted")
+    public void foldLeftWithoutBreaker() {
+        List<FoldListener.FoldStats> stats = new ArrayList<>();
+        InstrumentedFold fold = InstrumentedFold.of("list", stats::add);
+
+        List<Integer> result = fold.foldLeft(Stream.of(1, 2, 3), ArrayList::new, (List<Integer> u, Integer t) -> {
+            if (t != 2) {
+                u.add(t);
+                return u;
+            }
+            List<Integer> copy = new ArrayList<>(u);
+            copy.add(t);
+            return copy;
+        });
+
+        assertEquals(List.of(1, 2, 3), result);
+        assertEquals(3, stats.get(0).elements());
+        assertEquals(-1, stats.get(0).breakerPosition());
+        assertEquals(1, stats.get(0).accumulatorChanges());
+    }
+
+    @Test
+    @DisplayName("Should fold without reporting when disabled")
+    public void disabled() {
+        InstrumentedFold fold = InstrumentedFold.of("sum", null);
+
+        assertInstanceOf(InstrumentedFold.Plain.class, fold);
+        assertEquals(6, fold.foldLeft(Stream.of(1, 2, 3, 4, 5), () -> 0, (u, t) -> u + t > 6, Integer::sum));
+        assertEquals(15, fold.foldLeft(Stream.of(1, 2, 3, 4, 5), () -> 0, Integer::sum));
+    }
+
+    @Test
+    @DisplayName("Should commit a JFR event per fold")
+    public void jfr() throws Exception {
+        Path file = Files.createTempFile("fold", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.eljhoset.stream.Fold");
+            recording.start();
+            InstrumentedFold.of("jfr", FoldListener.jfr()).foldLeft(Stream.of(1, 2, 3), () -> 0, Integer::sum);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("org.eljhoset.stream.Fold"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("jfr", events.get(0).getString("name"));
+        assertEquals(3, events.get(0).getLong("elements"));
+        Files.delete(file);
+    }
+}
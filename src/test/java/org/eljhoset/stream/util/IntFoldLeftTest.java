@@ -0,0 +1,36 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IntFoldLeftTest {
+
+    @Test
+    @DisplayName("Should stop traversing the stream if the condition in the predicate is met using the accumulated")
+    public void foldLeftWithPredicateByAccumulated() {
+        int result = IntFoldLeft.foldLeft(IntStream.of(1, 2, 3, 4), () -> 0, (u, t) -> u >= 3, Integer::sum);
+
+        assertEquals(3, result);
+    }
+
+    @Test
+    @DisplayName("Should stop traversing the stream if the condition in the predicate is met using the element")
+    public void foldLeftWithPredicateByElement() {
+        int result = IntFoldLeft.foldLeft(IntStream.of(1, 2, 3, 4), () -> 0, t -> t == 4, Integer::sum);
+
+        assertEquals(6, result);
+    }
+
+    @Test
+    @DisplayName("Should fold into a mutable accumulator")
+    public void foldLeftMutable() {
+        BitSet result = IntFoldLeft.foldLeftInPlace(IntStream.of(1, 3, 5), BitSet::new, BitSet::set);
+
+        assertEquals(3, result.cardinality());
+    }
+}
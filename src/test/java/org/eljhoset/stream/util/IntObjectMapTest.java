@@ -0,0 +1,55 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntObjectMapTest {
+
+    @Test
+    @DisplayName("Should keep every key while growing")
+    public void putAndGet() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+        for (int i = -50_000; i < 50_000; i++) {
+            map.put(i * 31, Integer.toString(i));
+        }
+
+        assertEquals(100_000, map.size());
+        assertEquals("-7", map.get(-7 * 31));
+        assertEquals("0", map.get(0));
+        assertNull(map.get(1));
+        assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    @DisplayName("Should replace the value of an existing key")
+    public void replace() {
+        IntObjectMap<String> map = new IntObjectMap<>();
+
+        assertNull(map.put(3, "a"));
+        assertEquals("a", map.put(3, "b"));
+
+        assertEquals(1, map.size());
+        assertEquals(Map.of(3, "b"), map.toMap());
+    }
+
+    @Test
+    @DisplayName("Should merge the values of shared keys using the combiner")
+    public void merge() {
+        IntObjectMap<Integer> left = new IntObjectMap<>();
+        IntObjectMap<Integer> right = new IntObjectMap<>();
+        left.put(1, 10);
+        left.put(2, 20);
+        right.put(2, 2);
+        right.put(3, 3);
+
+        Map<Integer, Integer> result = new HashMap<>();
+        left.merge(right, Integer::sum).forEach(result::put);
+
+        assertEquals(Map.of(1, 10, 2, 22, 3, 3), result);
+    }
+}
@@ -0,0 +1,80 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LongFoldLeftTest {
+
+    @Mock
+    LongBinaryOperator op;
+    @Mock
+    LongPredicate predicate;
+    @Mock
+    LongFoldLeft.LongBiPredicate biPredicate;
+    @Mock
+    LongSupplier supplier;
+
+    @Test
+    @DisplayName("Should stop traversing the stream if the condition in the predicate is met using the accumulated")
+    public void foldLeftWithPredicateByAccumulated() {
+        LongStream stream = LongStream.of(1, 2, 3, 4);
+        when(supplier.getAsLong()).thenReturn(0L);
+        when(op.applyAsLong(anyLong(), anyLong())).thenAnswer(invocation -> (long) invocation.getArgument(0) + (long) invocation.getArgument(1));
+        when(biPredicate.test(anyLong(), anyLong())).thenReturn(false);
+        when(biPredicate.test(eq(3L), anyLong())).thenReturn(true);
+
+        long result = LongFoldLeft.foldLeft(stream, supplier, biPredicate, op);
+
+        verify(biPredicate, times(3)).test(anyLong(), anyLong());
+        verify(op, times(2)).applyAsLong(anyLong(), anyLong());
+        verify(supplier, only()).getAsLong();
+        assertEquals(3L, result);
+    }
+
+    @Test
+    @DisplayName("Should stop traversing the stream if the condition in the predicate is met using the element")
+    public void foldLeftWithPredicateByElement() {
+        LongStream stream = LongStream.of(1, 2, 3, 4);
+        when(supplier.getAsLong()).thenReturn(0L);
+        when(op.applyAsLong(anyLong(), anyLong())).thenAnswer(invocation -> (long) invocation.getArgument(0) + (long) invocation.getArgument(1));
+        when(predicate.test(anyLong())).thenReturn(false);
+        when(predicate.test(eq(3L))).thenReturn(true);
+
+        long result = LongFoldLeft.foldLeft(stream, supplier, predicate, op);
+
+        verify(predicate, times(3)).test(anyLong());
+        verify(op, times(2)).applyAsLong(anyLong(), anyLong());
+        assertEquals(3L, result);
+    }
+
+    @Test
+    @DisplayName("Should traverse the stream ignoring the predicate")
+    public void foldLeftIgnoringPredicate() {
+        long result = LongFoldLeft.foldLeft(LongStream.rangeClosed(1, 1_000_000), () -> 0L, Long::sum);
+
+        assertEquals(500_000_500_000L, result);
+    }
+
+    @Test
+    @DisplayName("Should fold into a mutable accumulator")
+    public void foldLeftMutable() {
+        long[] result = LongFoldLeft.foldLeftInPlace(LongStream.of(1, 2, 2, 3), () -> new long[4], (long[] u, long t) -> u[(int) t]++);
+
+        assertArrayEquals(new long[]{0, 1, 2, 1}, result);
+    }
+}
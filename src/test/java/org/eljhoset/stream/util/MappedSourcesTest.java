@@ -0,0 +1,154 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedSourcesTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should fold the longs of a file sequentially and in parallel")
+    public void longs() throws IOException {
+        Path file = dir.resolve("longs.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            for (long i = 0; i < 100_000; i++) {
+                out.writeLong(i);
+            }
+            out.writeByte(1);
+        }
+
+        long sequential = LongFoldLeft.foldLeft(MappedSources.longs(file), () -> 0L, Long::sum);
+        long parallel = MappedSources.longs(file).parallel().sum();
+
+        assertEquals(LongStream.range(0, 100_000).sum(), sequential);
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    @DisplayName("Should read the doubles of a file")
+    public void doubles() throws IOException {
+        Path file = dir.resolve("doubles.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeDouble(1.5);
+            out.writeDouble(-2.5);
+        }
+
+        assertArrayEquals(new double[]{1.5, -2.5}, MappedSources.doubles(file).toArray());
+    }
+
+    @Test
+    @DisplayName("Should expose each fixed width record as a view")
+    public void records() throws IOException {
+        Path file = dir.resolve("records.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            for (int i = 0; i < 10; i++) {
+                out.writeInt(i);
+                out.writeLong(i * 100L);
+            }
+        }
+
+        long total = FoldLeft.foldLeft(MappedSources.records(file, 12), () -> 0L, (Long u, ByteBuffer r) -> u + r.getInt(0) + r.getLong(4));
+
+        assertEquals(45 + 4500, total);
+    }
+
+    @Test
+    @DisplayName("Should split the lines of a file without decoding them")
+    public void lines() throws IOException {
+        Path file = dir.resolve("lines.txt");
+        List<String> lines = IntStream.range(0, 10_000).mapToObj(i -> "line " + i).toList();
+        Files.writeString(file, String.join("\n", lines.subList(0, 5_000)) + "\r\n" + String.join("\n", lines.subList(5_000, 10_000)));
+
+        List<String> sequential = MappedSources.lines(file).map(b -> StandardCharsets.UTF_8.decode(b).toString()).toList();
+        List<String> parallel = MappedSources.lines(file).parallel().map(b -> StandardCharsets.UTF_8.decode(b).toString()).toList();
+
+        assertEquals(lines, sequential);
+        assertEquals(lines, parallel);
+    }
+
+    @Test
+    @DisplayName("Should return an empty stream for an empty file")
+    public void empty() throws IOException {
+        Path file = Files.createFile(dir.resolve("empty.txt"));
+
+        assertEquals(0, MappedSources.lines(file).count());
+        assertEquals(0, MappedSources.longs(file).count());
+        assertNull(MappedSources.lines(file).spliterator().trySplit());
+        assertNull(MappedSources.longs(file).spliterator().trySplit());
+    }
+
+    @Test
+    @DisplayName("Should read longs across small regions")
+    public void longsAcrossRegions() throws IOException {
+        Path file = dir.resolve("longs.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            for (long i = 0; i < 100; i++) {
+                out.writeLong(i);
+            }
+        }
+        MappedRegions regions = MappedRegions.fixedWidth(file, Long.BYTES, ByteOrder.BIG_ENDIAN, 20);
+
+        assertEquals(50, regions.regions.length);
+        for (long position = 0; position < regions.size; position++) {
+            assertEquals(position / 16, regions.regionOf(position));
+        }
+        long[] values = StreamSupport.longStream(new MappedSources.LongRecordSpliterator(regions, 10, 100), false).toArray();
+        long parallel = StreamSupport.longStream(new MappedSources.LongRecordSpliterator(regions, 0, 100), true).sum();
+        List<Long> advanced = new ArrayList<>();
+        new MappedSources.LongRecordSpliterator(regions, 3, 7).tryAdvance((long t) -> advanced.add(t));
+
+        assertArrayEquals(LongStream.range(10, 100).toArray(), values);
+        assertEquals(LongStream.range(0, 100).sum(), parallel);
+        assertEquals(List.of(3L), advanced);
+    }
+
+    @Test
+    @DisplayName("Should end every small region on a line boundary")
+    public void linesAcrossRegions() throws IOException {
+        Path file = dir.resolve("lines.txt");
+        List<String> lines = IntStream.range(0, 200).mapToObj(i -> "line " + i).toList();
+        Files.writeString(file, String.join("\r\n", lines));
+        MappedRegions regions = MappedRegions.lines(file, 32);
+
+        assertTrue(regions.regions.length > 1);
+        for (int r = 0; r < regions.regions.length - 1; r++) {
+            ByteBuffer region = regions.regions[r];
+            assertEquals('\n', region.get(region.limit() - 1));
+            assertEquals(regions.bases[r] + region.limit(), regions.bases[r + 1]);
+        }
+        List<String> sequential = StreamSupport.stream(new MappedSources.LineSpliterator(regions, 0, regions.size), false)
+                .map(b -> StandardCharsets.UTF_8.decode(b).toString()).toList();
+        List<String> parallel = StreamSupport.stream(new MappedSources.LineSpliterator(regions, 0, regions.size), true)
+                .map(b -> StandardCharsets.UTF_8.decode(b).toString()).toList();
+
+        assertEquals(lines, sequential);
+        assertEquals(lines, parallel);
+    }
+
+    @Test
+    @DisplayName("Should reject a line longer than a region")
+    public void lineLongerThanRegion() throws IOException {
+        Path file = dir.resolve("long-line.txt");
+        Files.writeString(file, "a".repeat(40) + "\nb\n");
+
+        assertThrows(IllegalArgumentException.class, () -> MappedRegions.lines(file, 32));
+    }
+}
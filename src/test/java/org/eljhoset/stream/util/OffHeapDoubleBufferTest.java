@@ -0,0 +1,72 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapDoubleBufferTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should store values across doubling and capped chunks and stream them back in order")
+    public void addAcrossChunks() {
+        int count = 1000;
+        OffHeapDoubleBuffer buffer = new OffHeapDoubleBuffer(null, 2, 5);
+        IntStream.range(0, count).asDoubleStream().map(d -> d / 2).forEach(buffer);
+
+        assertEquals(count, buffer.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i / 2.0, buffer.get(i));
+        }
+        assertArrayEquals(IntStream.range(0, count).asDoubleStream().map(d -> d / 2).toArray(), buffer.stream().toArray());
+        assertEquals(count * (count - 1) / 4.0, buffer.stream().parallel().sum());
+        assertEquals(0.0, buffer.iterator().nextDouble());
+    }
+
+    @Test
+    @DisplayName("Should write the scanned values into the sink")
+    public void scanLeftIntoSink() {
+        OffHeapDoubleBuffer buffer = ScanLeft.scanLeft(DoubleStream.of(0.5, 1, 1.5, 2), () -> 0, t -> t == 2, Double::sum, new OffHeapDoubleBuffer());
+
+        assertArrayEquals(new double[]{0.5, 1.5, 2.5}, buffer.stream().toArray());
+    }
+
+    @Test
+    @DisplayName("Should back the values with a file truncated to their size when closed")
+    public void mapped() throws Exception {
+        Path file = dir.resolve("values.bin");
+        try (OffHeapDoubleBuffer buffer = OffHeapDoubleBuffer.mapped(file)) {
+            IntStream.range(0, 100).asDoubleStream().forEach(buffer);
+            assertEquals(99.0, buffer.get(99));
+        }
+
+        assertEquals(100L * Double.BYTES, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("Should reject writes once closed")
+    public void closed() {
+        OffHeapDoubleBuffer buffer = OffHeapDoubleBuffer.mapped(dir.resolve("closed.bin"));
+        buffer.close();
+
+        assertThrows(IllegalStateException.class, () -> buffer.add(1));
+    }
+
+    @Test
+    @DisplayName("Should reject an index outside of the written values")
+    public void outOfBounds() {
+        OffHeapDoubleBuffer buffer = new OffHeapDoubleBuffer();
+        buffer.add(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(1));
+    }
+}
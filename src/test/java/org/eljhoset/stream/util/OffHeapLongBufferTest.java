@@ -0,0 +1,96 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapLongBufferTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should store values across doubling and capped chunks and stream them back in order")
+    public void addAcrossChunks() {
+        long count = 1000;
+        OffHeapLongBuffer buffer = LongFoldLeft.foldLeftInPlace(LongStream.range(0, count), () -> new OffHeapLongBuffer(null, 2, 5), OffHeapLongBuffer::add);
+
+        assertEquals(count, buffer.size());
+        for (long i = 0; i < count; i++) {
+            assertEquals(i, buffer.get(i));
+        }
+        assertArrayEquals(LongStream.range(0, count).toArray(), buffer.stream().toArray());
+        assertEquals(count * (count - 1) / 2, buffer.stream().parallel().sum());
+        assertEquals(count * (count - 1) / 2, LongFoldLeft.foldLeft(buffer.stream(), () -> 0L, (u, t) -> false, Long::sum));
+    }
+
+    @Test
+    @DisplayName("Should start with a small chunk and grow it geometrically")
+    public void growGeometrically() {
+        OffHeapLongBuffer buffer = new OffHeapLongBuffer();
+        buffer.add(1);
+        assertEquals(1L << OffHeapBuffer.FIRST_CHUNK_SHIFT, buffer.capacity());
+
+        LongStream.range(0, 1L << OffHeapBuffer.FIRST_CHUNK_SHIFT).forEach(buffer);
+        assertEquals(3L << OffHeapBuffer.FIRST_CHUNK_SHIFT, buffer.capacity());
+    }
+
+    @Test
+    @DisplayName("Should write the scanned values into the sink")
+    public void scanLeftIntoSink() {
+        OffHeapLongBuffer buffer = ScanLeft.scanLeft(LongStream.of(1, 2, 3, 4), () -> 0L, t -> t == 4, Long::sum, new OffHeapLongBuffer());
+
+        assertArrayEquals(new long[]{1, 3, 5}, buffer.stream().toArray());
+        assertEquals(1, buffer.iterator().nextLong());
+    }
+
+    @Test
+    @DisplayName("Should back the values with a file truncated to their size when closed")
+    public void mapped() throws Exception {
+        Path file = dir.resolve("values.bin");
+        try (OffHeapLongBuffer buffer = OffHeapLongBuffer.mapped(file)) {
+            LongStream.range(0, 100).forEach(buffer);
+            assertEquals(99, buffer.get(99));
+        }
+
+        assertEquals(100L * Long.BYTES, Files.size(file));
+    }
+
+    @Test
+    @DisplayName("Should map only the first chunk of the file for a small buffer")
+    public void mappedSmall() throws Exception {
+        Path file = dir.resolve("small.bin");
+        try (OffHeapLongBuffer buffer = OffHeapLongBuffer.mapped(file)) {
+            buffer.add(7);
+
+            assertEquals((1L << OffHeapBuffer.FIRST_CHUNK_SHIFT) * Long.BYTES, Files.size(file));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject reads and writes once closed")
+    public void closed() {
+        OffHeapLongBuffer buffer = OffHeapLongBuffer.mapped(dir.resolve("closed.bin"));
+        buffer.add(1);
+        buffer.close();
+
+        assertThrows(IllegalStateException.class, () -> buffer.add(2));
+        assertThrows(IllegalStateException.class, () -> buffer.get(0));
+        assertThrows(IllegalStateException.class, () -> buffer.stream().sum());
+    }
+
+    @Test
+    @DisplayName("Should reject an index outside of the written values")
+    public void outOfBounds() {
+        OffHeapLongBuffer buffer = new OffHeapLongBuffer();
+        buffer.add(1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(1));
+    }
+}
@@ -0,0 +1,142 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PublisherFoldTest {
+
+    @Test
+    @DisplayName("Should fold every published element requesting them in batches")
+    public void foldLeft() throws Exception {
+        RangePublisher publisher = new RangePublisher(1_000);
+
+        CompletableFuture<Long> result = PublisherFold.foldLeft(publisher, () -> 0L, (Long u, Integer t) -> u + t, 64);
+
+        assertEquals(499_500L, result.get(1, TimeUnit.SECONDS));
+        assertTrue(publisher.largestRequest <= 64);
+    }
+
+    @Test
+    @DisplayName("Should cancel the subscription as soon as the predicate is met")
+    public void foldLeftWithPredicate() throws Exception {
+        RangePublisher publisher = new RangePublisher(1_000);
+
+        CompletableFuture<Integer> result = PublisherFold.foldLeft(publisher, () -> 0, (u, t) -> t == 10, (Integer u, Integer t) -> u + t, 4);
+
+        assertEquals(45, result.get(1, TimeUnit.SECONDS));
+        assertTrue(publisher.cancelled);
+        assertTrue(publisher.next < 20);
+    }
+
+    @Test
+    @DisplayName("Should fold the elements of an asynchronous publisher")
+    public void foldLeftAsynchronous() throws Exception {
+        CompletableFuture<String> result;
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            result = PublisherFold.foldLeft(publisher, () -> "", String::concat, 2);
+            List.of("a", "b", "c", "d", "e").forEach(publisher::submit);
+        }
+
+        assertEquals("abcde", result.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should complete exceptionally when the publisher fails")
+    public void foldLeftError() {
+        Flow.Publisher<Integer> publisher = subscriber -> {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                public void request(long n) {
+                }
+
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("boom"));
+        };
+
+        CompletableFuture<Integer> result = PublisherFold.foldLeft(publisher, () -> 0, Integer::sum, 8);
+
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    @DisplayName("Should publish the scanned values until the predicate is met")
+    public void scanLeft() {
+        RangePublisher publisher = new RangePublisher(1_000);
+        List<Integer> received = new ArrayList<>();
+        boolean[] completed = {false};
+
+        PublisherFold.scanLeft(publisher, () -> 0, t -> t == 4, Integer::sum).subscribe(new Flow.Subscriber<>() {
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            public void onComplete() {
+                completed[0] = true;
+            }
+        });
+
+        assertEquals(List.of(0, 1, 3, 5), received);
+        assertTrue(completed[0]);
+        assertTrue(publisher.cancelled);
+    }
+
+    static class RangePublisher implements Flow.Publisher<Integer> {
+        private final int end;
+        int next = 0;
+        long largestRequest = 0;
+        boolean cancelled = false;
+        private long demand = 0;
+        private boolean emitting = false;
+
+        RangePublisher(int end) {
+            this.end = end;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                public void request(long n) {
+                    largestRequest = Math.max(largestRequest, n);
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && next < end && !cancelled) {
+                        demand--;
+                        subscriber.onNext(next++);
+                    }
+                    emitting = false;
+                    if (next == end && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumableFoldTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should resume from the last checkpoint skipping the folded prefix")
+    public void resumeAfterFailure() {
+        Path file = dir.resolve("fold.checkpoint");
+        ResumableFold.Serializer<Long> serializer = ResumableFold.Serializer.java();
+        try (FileCheckpointSink sink = new FileCheckpointSink(file)) {
+            ResumableFold.Checkpointer<Long> checkpointer = ResumableFold.Checkpointer.everyElements(serializer, sink, 100);
+            Stream<Integer> failing = IntStream.range(0, 1000).boxed().peek(t -> {
+                if (t == 550) {
+                    throw new IllegalStateException("crash");
+                }
+            });
+            assertThrows(IllegalStateException.class, () -> ResumableFold.foldLeft(failing, () -> 0L, (Long u, Integer t) -> u + t, checkpointer));
+            sink.flush();
+        }
+
+        AtomicInteger applied = new AtomicInteger();
+        try (FileCheckpointSink sink = new FileCheckpointSink(file)) {
+            assertEquals(500, sink.read().orElseThrow().offset());
+            ResumableFold.Checkpointer<Long> checkpointer = ResumableFold.Checkpointer.everyElements(serializer, sink, 100);
+
+            Long result = ResumableFold.foldLeft(IntStream.range(0, 1000).boxed(), () -> 0L, (Long u, Integer t) -> {
+                applied.incrementAndGet();
+                return u + t;
+            }, checkpointer);
+
+            assertEquals(499_500L, result);
+            assertEquals(500, applied.get());
+            assertEquals(1000, sink.read().orElseThrow().offset());
+        }
+    }
+
+    @Test
+    @DisplayName("Should start from the initial value when there is no checkpoint")
+    public void noCheckpoint() throws Exception {
+        try (FileCheckpointSink sink = new FileCheckpointSink(dir.resolve("empty.checkpoint"))) {
+            assertTrue(sink.read().isEmpty());
+            ResumableFold.Checkpointer<String> checkpointer = ResumableFold.Checkpointer.every(ResumableFold.Serializer.java(), sink, Duration.ofSeconds(1));
+
+            String result = ResumableFold.foldLeft(Stream.of("a", "b", "c"), () -> ">", (u, t) -> u.length() > 2, String::concat, checkpointer);
+
+            assertEquals(">ab", result);
+            assertEquals(2, sink.read().orElseThrow().offset());
+            sink.delete();
+            assertTrue(sink.read().isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Should rethrow a failed checkpoint write from the next write")
+    public void writeFailure() {
+        FileCheckpointSink sink = new FileCheckpointSink(dir.resolve("missing").resolve("fold.checkpoint"));
+        ResumableFold.Checkpoint checkpoint = new ResumableFold.Checkpoint(1, new byte[]{1});
+
+        assertThrows(UncheckedIOException.class, () -> {
+            for (int i = 0; i < 1000; i++) {
+                sink.write(checkpoint);
+                Thread.sleep(5);
+            }
+        });
+        sink.close();
+    }
+}
@@ -7,9 +7,16 @@ import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BinaryOperator;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,9 +44,9 @@ class ScanLeftTest {
 
         Stream<Integer> result = ScanLeft.scanLeft(stream, supplier, predicate, op);
 
+        assertEquals(Stream.of(1, 3, 5).toList(), result.toList());
         verify(predicate, times(4)).test(anyInt());
         verify(op, times(3)).apply(anyInt(), anyInt());
-        assertEquals(Stream.of(1, 3, 5).toList(), result.toList());
     }
 
     @Test
@@ -51,8 +58,119 @@ class ScanLeftTest {
 
         Stream<Integer> result = ScanLeft.scanLeft(stream, supplier, op);
 
-        verify(op, times(4)).apply(anyInt(), anyInt());
         assertEquals(Stream.of(1, 3, 5, 7).toList(), result.toList());
+        verify(op, times(4)).apply(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should not traverse the stream until a terminal operation is invoked")
+    public void scanLeftIsLazy() {
+        Stream<Integer> stream = Stream.iterate(1, i -> i + 1);
+        when(supplier.get()).thenReturn(0);
+        when(op.apply(anyInt(), anyInt())).thenAnswer(this::sumParams);
+
+        Stream<Integer> result = ScanLeft.scanLeft(stream, supplier, op);
+
+        verify(op, never()).apply(anyInt(), anyInt());
+        assertEquals(Stream.of(1, 3, 5).toList(), result.limit(3).toList());
+        verify(op, times(3)).apply(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should scan a large stream without overflowing the stack")
+    public void scanLeftLargeStream() {
+        Stream<Integer> stream = IntStream.range(0, 1_000_000).boxed();
+
+        Optional<Integer> last = ScanLeft.scanLeft(stream, () -> 0, Integer::sum).reduce((a, b) -> b);
+
+        assertEquals(Optional.of(1_999_997), last);
+    }
+
+    @Test
+    @DisplayName("Should combine with the initial value after a null element")
+    public void scanLeftAfterNullElement() {
+        Stream<String> stream = Stream.of("a", null, "b", "c");
+
+        List<String> result = ScanLeft.scanLeft(stream, () -> "0", (prev, t) -> prev + t).toList();
+
+        assertEquals(List.of("0a", "anull", "0b", "bc"), result);
+    }
+
+    @Test
+    @DisplayName("Should report the size of the source when there is no predicate")
+    public void scanLeftSized() {
+        Stream<Integer> stream = Stream.of(1, 2, 3, 4);
+
+        Spliterator<Integer> result = ScanLeft.scanLeft(stream, () -> 0, Integer::sum).spliterator();
+
+        assertTrue(result.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(result.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(4, result.getExactSizeIfKnown());
+    }
+
+    @Test
+    @DisplayName("Should scan a primitive stream stopping at the predicate")
+    public void scanLeftLongStream() {
+        LongStream stream = LongStream.of(1, 2, 3, 4);
+
+        long[] result = ScanLeft.scanLeft(stream, () -> 0L, t -> t == 4, Long::sum).toArray();
+
+        assertArrayEquals(new long[]{1, 3, 5}, result);
+    }
+
+    @Test
+    @DisplayName("Should scan primitive streams ignoring the predicate")
+    public void scanLeftPrimitiveStreams() {
+        assertArrayEquals(new int[]{1, 3, 5, 7}, ScanLeft.scanLeft(IntStream.of(1, 2, 3, 4), () -> 0, Integer::sum).toArray());
+        assertArrayEquals(new double[]{1, 3, 5, 7}, ScanLeft.scanLeft(DoubleStream.of(1, 2, 3, 4), () -> 0, Double::sum).toArray());
+    }
+
+    @Test
+    @DisplayName("Should compute the running results in parallel starting from the initial value")
+    public void parallelPrefix() {
+        Stream<Long> stream = LongStream.rangeClosed(1, 1_000_000).boxed().parallel();
+
+        List<Long> result = ScanLeft.parallelPrefix(stream, () -> 10L, Long::sum).toList();
+
+        assertEquals(1_000_000, result.size());
+        assertEquals(11L, result.get(0));
+        assertEquals(13L, result.get(1));
+        assertEquals(10L + 500_000_500_000L, result.get(999_999));
+    }
+
+    @Test
+    @DisplayName("Should split a sequential pipeline with intermediate stages into several chunks")
+    public void parallelPrefixSequentialPipeline() {
+        long[] init = new long[1];
+        AtomicLong fromInit = new AtomicLong();
+        Stream<long[]> stream = LongStream.rangeClosed(1, 100_000).mapToObj(t -> new long[]{t * 2});
+
+        List<long[]> result = ScanLeft.parallelPrefix(stream, () -> init, (a, b) -> {
+            if (a == init) {
+                fromInit.incrementAndGet();
+            }
+            return new long[]{a[0] + b[0]};
+        }).toList();
+
+        assertEquals(100_000L * 100_001L, result.get(99_999)[0]);
+        // only the first chunk is combined with init, so a single chunk would start from it for every element
+        assertTrue(fromInit.get() < 100_000);
+    }
+
+    @Test
+    @DisplayName("Should keep the encounter order of an unsized source with a non commutative operator")
+    public void parallelPrefixConcat() {
+        Stream<String> stream = Stream.iterate("a", s -> s.length() < 5, s -> s + "a").filter(s -> true);
+
+        List<String> result = ScanLeft.parallelPrefix(stream, () -> ">", String::concat).toList();
+
+        assertEquals(List.of(">a", ">aaa", ">aaaaaa", ">aaaaaaaaaa"), result);
+    }
+
+    @Test
+    @DisplayName("Should return an empty stream for an empty source")
+    public void parallelPrefixEmpty() {
+        assertEquals(List.of(), ScanLeft.parallelPrefix(Stream.<Integer>empty(), () -> 0, Integer::sum).toList());
     }
 
     private int sumParams(InvocationOnMock invocationOnMock) {
@@ -0,0 +1,82 @@
+package org.eljhoset.stream.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WindowFoldTest {
+
+    @Mock
+    BiFunction<Integer, Integer, Integer> op;
+
+    @Test
+    @DisplayName("Should fold each tumbling window including the last partial one")
+    public void tumbling() {
+        Stream<Integer> stream = IntStream.rangeClosed(1, 7).boxed();
+
+        List<Integer> result = WindowFold.tumbling(stream, 3, () -> 0, Integer::sum).toList();
+
+        assertEquals(List.of(6, 15, 7), result);
+    }
+
+    @Test
+    @DisplayName("Should not pull more elements than the windows consumed")
+    public void tumblingIsLazy() {
+        Stream<Integer> stream = Stream.iterate(1, i -> i + 1);
+
+        List<Integer> result = WindowFold.tumbling(stream, 2, () -> 0, Integer::sum).limit(2).toList();
+
+        assertEquals(List.of(3, 7), result);
+    }
+
+    @Test
+    @DisplayName("Should refold each complete sliding window")
+    public void sliding() {
+        Stream<Integer> stream = IntStream.rangeClosed(1, 6).boxed();
+
+        List<String> result = WindowFold.sliding(stream, 3, 2, () -> "", (String u, Integer t) -> u + t).toList();
+
+        assertEquals(List.of("123", "345"), result);
+    }
+
+    @Test
+    @DisplayName("Should update the sliding window incrementally using the inverse")
+    public void slidingInverse() {
+        Stream<Integer> stream = IntStream.rangeClosed(1, 6).boxed();
+        when(op.apply(anyInt(), anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) + (int) invocation.getArgument(1));
+
+        List<Integer> result = WindowFold.sliding(stream, 3, 1, () -> 0, op, (u, t) -> u - t).toList();
+
+        verify(op, times(6)).apply(anyInt(), anyInt());
+        assertEquals(List.of(6, 9, 12, 15), result);
+    }
+
+    @Test
+    @DisplayName("Should fold each run of elements sharing the same key")
+    public void session() {
+        Stream<String> stream = Stream.of("a1", "a2", "b1", "a3", "a4", "a5");
+
+        List<Integer> result = WindowFold.session(stream, s -> s.charAt(0), () -> 0, (Integer u, String s) -> u + 1).toList();
+
+        assertEquals(List.of(2, 1, 3), result);
+    }
+
+    @Test
+    @DisplayName("Should reject a non positive window size")
+    public void invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> WindowFold.tumbling(Stream.of(1), 0, () -> 0, Integer::sum));
+    }
+}